@@ -0,0 +1,148 @@
+package raisetech.studentManagement.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import raisetech.studentManagement.converter.StudentConverter;
+import raisetech.studentManagement.data.ApplicationStatus;
+import raisetech.studentManagement.data.CourseStatus;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+
+/**
+ * ベンチマークで使用する受講生・受講生コース情報・申込状況を生成するクラスです。
+ * 乱数の種を固定しているので、同じ件数を指定すれば毎回同じ内容を生成します。
+ * 受講生1人あたりの受講生コース情報は1〜3件で、受講生コース情報ごとに申込状況を1件生成します。
+ */
+final class BenchmarkData {
+
+  private static final long SEED = 20240401L;
+
+  private static final String[][] FAMILY_NAMES = {
+      {"山田", "ヤマダ"}, {"鈴木", "スズキ"}, {"田中", "タナカ"}, {"佐藤", "サトウ"},
+      {"伊藤", "イトウ"}, {"高橋", "タカハシ"}, {"渡辺", "ワタナベ"}, {"中村", "ナカムラ"}};
+
+  private static final String[][] GIVEN_NAMES = {
+      {"太郎", "タロウ"}, {"一郎", "イチロウ"}, {"花子", "ハナコ"}, {"良子", "リョウコ"},
+      {"悠", "ハルカ"}, {"健", "ケン"}, {"美咲", "ミサキ"}, {"翔", "ショウ"}};
+
+  private static final String[] ADDRESSES = {"東京", "大阪", "北海道", "福岡", "愛知", "神奈川",
+      "京都", "沖縄"};
+
+  private static final String[] GENDERS = {"男性", "女性", "その他"};
+
+  private static final String[] COURSE_NAMES = {"Javaコース", "AWSコース", "デザインコース",
+      "Web制作コース", "マーケティングコース"};
+
+  private static final LocalDateTime COURSE_START_AT = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+  private final List<Student> studentList = new ArrayList<>();
+  private final List<StudentCourse> studentCourseList = new ArrayList<>();
+  private final List<CourseStatus> courseStatusList = new ArrayList<>();
+
+  private BenchmarkData() {
+  }
+
+  /**
+   * 採番済みのIDを設定した受講生・受講生コース情報・申込状況を生成します。
+   * データベースから検索した結果と同じ形のデータとして使用します。
+   *
+   * @param studentCount 受講生の件数
+   * @return 生成したデータ
+   */
+  static BenchmarkData generate(int studentCount) {
+    BenchmarkData data = new BenchmarkData();
+    Random random = new Random(SEED);
+    int studentCourseId = 0;
+    for (int i = 1; i <= studentCount; i++) {
+      Student student = createStudent(random, i);
+      student.setId(String.valueOf(i));
+      data.studentList.add(student);
+
+      int courseCount = 1 + random.nextInt(3);
+      for (int j = 0; j < courseCount; j++) {
+        StudentCourse studentCourse = createStudentCourse(random);
+        studentCourse.setId(String.valueOf(++studentCourseId));
+        studentCourse.setStudentId(student.getId());
+        data.studentCourseList.add(studentCourse);
+
+        CourseStatus courseStatus = new CourseStatus();
+        courseStatus.setId(studentCourse.getId());
+        courseStatus.setStudentCourseId(studentCourse.getId());
+        courseStatus.setStatus(
+            ApplicationStatus.values()[random.nextInt(ApplicationStatus.values().length)]);
+        data.courseStatusList.add(courseStatus);
+      }
+    }
+    return data;
+  }
+
+  /**
+   * 登録用の受講生詳細(IDは未設定)を生成します。 申込状況は登録時に設定されるので空のリストです。
+   *
+   * @param studentCount 受講生の件数
+   * @return 登録用の受講生詳細のリスト
+   */
+  static List<StudentDetail> newStudentDetails(int studentCount) {
+    Random random = new Random(SEED);
+    List<StudentDetail> studentDetailList = new ArrayList<>(studentCount);
+    for (int i = 1; i <= studentCount; i++) {
+      Student student = createStudent(random, i);
+      List<StudentCourse> studentCourseList = new ArrayList<>();
+      int courseCount = 1 + random.nextInt(3);
+      for (int j = 0; j < courseCount; j++) {
+        studentCourseList.add(createStudentCourse(random));
+      }
+      studentDetailList.add(new StudentDetail(student, studentCourseList, new ArrayList<>()));
+    }
+    return studentDetailList;
+  }
+
+  private static Student createStudent(Random random, int number) {
+    String[] familyName = FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+    String[] givenName = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+
+    Student student = new Student();
+    student.setName(familyName[0] + givenName[0]);
+    student.setKanaName(familyName[1] + givenName[1]);
+    student.setNickname(givenName[1]);
+    student.setEmail("student" + number + "@example.com");
+    student.setAddress(ADDRESSES[random.nextInt(ADDRESSES.length)]);
+    student.setAge(18 + random.nextInt(50));
+    student.setGender(GENDERS[random.nextInt(GENDERS.length)]);
+    student.setRemark(random.nextInt(4) == 0 ? "初学者" : "");
+    return student;
+  }
+
+  private static StudentCourse createStudentCourse(Random random) {
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setCourseName(COURSE_NAMES[random.nextInt(COURSE_NAMES.length)]);
+    studentCourse.setCourseStartAt(COURSE_START_AT.plusDays(random.nextInt(365)));
+    studentCourse.setCourseEndAt(studentCourse.getCourseStartAt().plusMonths(3));
+    return studentCourse;
+  }
+
+  List<Student> getStudentList() {
+    return studentList;
+  }
+
+  List<StudentCourse> getStudentCourseList() {
+    return studentCourseList;
+  }
+
+  List<CourseStatus> getCourseStatusList() {
+    return courseStatusList;
+  }
+
+  /**
+   * 生成したデータから受講生詳細のリストを組み立てます。
+   *
+   * @return 受講生詳細のリスト
+   */
+  List<StudentDetail> toStudentDetails() {
+    return new StudentConverter().convertStudentDetails(studentList, studentCourseList,
+        courseStatusList);
+  }
+}
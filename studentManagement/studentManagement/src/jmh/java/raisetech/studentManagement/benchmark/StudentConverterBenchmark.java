@@ -0,0 +1,43 @@
+package raisetech.studentManagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import raisetech.studentManagement.converter.StudentConverter;
+import raisetech.studentManagement.domain.StudentDetail;
+
+/**
+ * {@link StudentConverter#convertStudentDetails} のベンチマークです。
+ * 並列化の閾値(既定は10,000件)の前後を含む件数で、受講生詳細の組み立てにかかる時間を計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentConverterBenchmark {
+
+  @Param({"100", "1000", "10000", "100000"})
+  private int studentCount;
+
+  private StudentConverter converter;
+
+  private BenchmarkData data;
+
+  @Setup
+  public void setup() {
+    converter = new StudentConverter();
+    data = BenchmarkData.generate(studentCount);
+  }
+
+  @Benchmark
+  public List<StudentDetail> convertStudentDetails() {
+    return converter.convertStudentDetails(data.getStudentList(), data.getStudentCourseList(),
+        data.getCourseStatusList());
+  }
+}
@@ -0,0 +1,47 @@
+package raisetech.studentManagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.studentManagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細のリストを JSON に変換するベンチマークです。
+ * Spring MVC と同じ設定の {@link ObjectMapper} を使用し、レスポンスとして返す際の変換にかかる時間を計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentDetailSerializationBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int studentCount;
+
+  private ObjectWriter writer;
+
+  private List<StudentDetail> studentDetailList;
+
+  @Setup
+  public void setup() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, StudentDetail.class));
+    studentDetailList = BenchmarkData.generate(studentCount).toStudentDetails();
+  }
+
+  @Benchmark
+  public byte[] writeStudentDetailList() throws JsonProcessingException {
+    return writer.writeValueAsBytes(studentDetailList);
+  }
+}
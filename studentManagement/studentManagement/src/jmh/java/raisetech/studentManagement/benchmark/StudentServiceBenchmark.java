@@ -0,0 +1,121 @@
+package raisetech.studentManagement.benchmark;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import raisetech.studentManagement.StudentManagementApplication;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentPage;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+import raisetech.studentManagement.service.StudentService;
+
+/**
+ * {@link StudentService} の検索処理のベンチマークです。
+ * H2(MySQL モード)のインメモリデータベースに生成した受講生詳細を登録したうえでアプリケーションを起動し、各検索にかかる時間を計測します。
+ * memoryCaches が false の場合は、スナップショット・索引・受講生詳細のキャッシュを無効にしてデータベースへの問い合わせを計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentServiceBenchmark {
+
+  private static final int REGISTER_CHUNK_SIZE = 500;
+
+  @Param({"1000", "10000"})
+  private int studentCount;
+
+  @Param({"true", "false"})
+  private boolean memoryCaches;
+
+  private ConfigurableApplicationContext context;
+
+  private StudentService service;
+
+  private List<String> studentIds;
+
+  private int nextStudent;
+
+  private StudentSearchCondition addressAndAgeCondition;
+
+  private StudentSearchCondition nameCondition;
+
+  @Setup
+  public void setup() {
+    context = new SpringApplicationBuilder(StudentManagementApplication.class)
+        .web(WebApplicationType.NONE)
+        .run(
+            "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=warn",
+            "--student-management.snapshot.enabled=" + memoryCaches,
+            "--student-management.search-index.enabled=" + memoryCaches,
+            "--student-management.bitmap-index.enabled=" + memoryCaches,
+            "--student-management.cache.maximum-size=" + (memoryCaches ? 10_000 : 0));
+    service = context.getBean(StudentService.class);
+
+    List<StudentDetail> studentDetailList = BenchmarkData.newStudentDetails(studentCount);
+    for (int i = 0; i < studentDetailList.size(); i += REGISTER_CHUNK_SIZE) {
+      service.registerStudentList(studentDetailList.subList(i,
+          Math.min(i + REGISTER_CHUNK_SIZE, studentDetailList.size())));
+    }
+    studentIds = studentDetailList.stream()
+        .map(studentDetail -> studentDetail.getStudent().getId())
+        .toList();
+
+    addressAndAgeCondition = new StudentSearchCondition();
+    addressAndAgeCondition.setAddress("東京");
+    addressAndAgeCondition.setMinAge(20);
+    addressAndAgeCondition.setMaxAge(29);
+
+    nameCondition = new StudentSearchCondition();
+    nameCondition.setName("太郎");
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<StudentDetail> searchStudentList() {
+    return service.searchStudentList();
+  }
+
+  @Benchmark
+  public StudentPage searchStudentListFirstPage() {
+    return service.searchStudentList(100, null);
+  }
+
+  @Benchmark
+  public StudentDetail searchStudent() {
+    String id = studentIds.get(nextStudent);
+    nextStudent = (nextStudent + 1) % studentIds.size();
+    return service.searchStudent(id);
+  }
+
+  @Benchmark
+  public List<StudentDetail> searchByAddressAndAge() {
+    return service.searchByCondition(addressAndAgeCondition);
+  }
+
+  @Benchmark
+  public List<StudentDetail> searchByName() {
+    return service.searchByCondition(nameCondition);
+  }
+}
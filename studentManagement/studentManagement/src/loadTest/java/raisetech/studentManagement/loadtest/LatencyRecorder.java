@@ -0,0 +1,82 @@
+package raisetech.studentManagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 1種類のリクエストについて、応答時間とステータスコードごとの件数を記録するクラスです。
+ * 複数のスレッドから記録されるので、記録と集計は同期して行います。
+ */
+class LatencyRecorder {
+
+  private long[] latencies = new long[1024];
+  private int count;
+  private final Map<Integer, Long> statusCounts = new TreeMap<>();
+  private final Map<String, Long> failureCounts = new TreeMap<>();
+
+  /**
+   * 応答を受け取ったリクエストを記録します。
+   *
+   * @param latencyNanos 応答時間(ナノ秒)
+   * @param statusCode   ステータスコード
+   */
+  synchronized void record(long latencyNanos, int statusCode) {
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+    latencies[count++] = latencyNanos;
+    statusCounts.merge(statusCode, 1L, Long::sum);
+  }
+
+  /**
+   * 応答を受け取れなかったリクエスト(接続エラーやタイムアウトなど)を記録します。
+   *
+   * @param cause 応答を受け取れなかった原因
+   */
+  synchronized void recordFailure(Exception cause) {
+    failureCounts.merge(cause.getClass().getSimpleName(), 1L, Long::sum);
+  }
+
+  /**
+   * 記録した内容を集計します。
+   *
+   * @param name           リクエストの名前
+   * @param elapsedSeconds 計測した時間(秒)
+   * @return 集計結果
+   */
+  synchronized Summary summarize(String name, double elapsedSeconds) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    long errorCount = failureCounts.values().stream().mapToLong(Long::longValue).sum()
+        + statusCounts.entrySet().stream()
+        .filter(entry -> entry.getKey() >= 400)
+        .mapToLong(Map.Entry::getValue)
+        .sum();
+    return new Summary(name, count, errorCount, new TreeMap<>(statusCounts),
+        new TreeMap<>(failureCounts),
+        count / elapsedSeconds,
+        count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000,
+        percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+        percentile(sorted, 99.9), count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+  }
+
+  private double percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1] / 1_000_000.0;
+  }
+
+  /**
+   * 1種類のリクエストの集計結果です。 応答時間はミリ秒です。
+   * ステータスコードが400以上のものと応答を受け取れなかったもの(原因の例外ごとに数える)をエラーとして数えます。
+   */
+  record Summary(String name, long count, long errorCount, Map<Integer, Long> statusCounts,
+                 Map<String, Long> failureCounts,
+                 double throughputPerSecond, double meanMillis, double p50Millis,
+                 double p90Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+  }
+}
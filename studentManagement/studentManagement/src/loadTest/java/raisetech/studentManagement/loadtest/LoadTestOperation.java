@@ -0,0 +1,51 @@
+package raisetech.studentManagement.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 負荷試験で送信するリクエストの種類です。
+ */
+enum LoadTestOperation {
+
+  /**
+   * 受講生詳細の一覧の1ページ目(GET /studentList?limit=100)。
+   */
+  STUDENT_LIST("studentList"),
+
+  /**
+   * 受講生詳細の検索(GET /student/{id})。 IDは事前に登録した受講生から無作為に選びます。
+   */
+  STUDENT("student"),
+
+  /**
+   * 受講生詳細の条件指定検索の1ページ目(POST /students/search?limit=100)。
+   */
+  SEARCH("search"),
+
+  /**
+   * 受講生詳細の登録(POST /registerStudent)。
+   */
+  REGISTER("register"),
+
+  /**
+   * 受講生詳細の更新(GET /student/{id} で取得した受講生の備考を変えて PUT /updateStudent)。 応答時間は2つのリクエストの合計です。
+   */
+  UPDATE("update");
+
+  private final String name;
+
+  LoadTestOperation(String name) {
+    this.name = name;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  static LoadTestOperation fromName(String name) {
+    return Arrays.stream(values())
+        .filter(operation -> operation.name.equals(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("リクエストの種類が不正です。(" + name + ")"));
+  }
+}
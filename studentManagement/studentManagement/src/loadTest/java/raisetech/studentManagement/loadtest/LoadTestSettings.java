@@ -0,0 +1,68 @@
+package raisetech.studentManagement.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 負荷試験の設定値です。 システムプロパティ {@code loadtest.*} から読み込みます。
+ *
+ * @param students             事前に登録する受講生の件数
+ * @param maxCoursesPerStudent 受講生1人あたりの受講生コース情報の上限件数
+ * @param seed                 登録するデータを生成する乱数の種
+ * @param batchSize            事前登録で1回のコミットにまとめる受講生の件数
+ * @param rate                 1秒あたりに送信するリクエスト数
+ * @param warmupSeconds        計測前にリクエストを送信する時間(秒)
+ * @param durationSeconds      計測する時間(秒)
+ * @param mix                  リクエストの種類ごとの送信比率
+ * @param jdbcUrl              H2 の接続先
+ * @param report               集計結果(JSON)の出力先
+ */
+record LoadTestSettings(int students, int maxCoursesPerStudent, long seed, int batchSize,
+                        int rate, int warmupSeconds, int durationSeconds,
+                        Map<LoadTestOperation, Integer> mix, String jdbcUrl, String report) {
+
+  /**
+   * システムプロパティから設定値を読み込みます。 指定がない項目は既定値を使用します。
+   *
+   * @return 設定値
+   */
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Integer.getInteger("loadtest.students", 10_000),
+        Integer.getInteger("loadtest.max-courses-per-student", 3),
+        Long.getLong("loadtest.seed", 20240401L),
+        Integer.getInteger("loadtest.batch-size", 1000),
+        Integer.getInteger("loadtest.rate", 100),
+        Integer.getInteger("loadtest.warmup", 10),
+        Integer.getInteger("loadtest.duration", 30),
+        parseMix(System.getProperty("loadtest.mix",
+            "studentList:20,student:40,search:20,register:10,update:10")),
+        System.getProperty("loadtest.jdbc-url",
+            "jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+        System.getProperty("loadtest.report", "build/results/loadTest/report.json"));
+  }
+
+  /**
+   * 「名前:比率」をカンマで区切った文字列から、リクエストの種類ごとの送信比率を読み込みます。
+   *
+   * @param value 送信比率(例: {@code studentList:20,student:40})
+   * @return リクエストの種類ごとの送信比率
+   */
+  static Map<LoadTestOperation, Integer> parseMix(String value) {
+    Map<LoadTestOperation, Integer> mix = new EnumMap<>(LoadTestOperation.class);
+    for (String entry : value.split(",")) {
+      String[] nameAndWeight = entry.trim().split(":");
+      if (nameAndWeight.length != 2) {
+        throw new IllegalArgumentException("送信比率の形式が不正です。(" + entry + ")");
+      }
+      int weight = Integer.parseInt(nameAndWeight[1].trim());
+      if (weight > 0) {
+        mix.put(LoadTestOperation.fromName(nameAndWeight[0].trim()), weight);
+      }
+    }
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("送信するリクエストがありません。(" + value + ")");
+    }
+    return mix;
+  }
+}
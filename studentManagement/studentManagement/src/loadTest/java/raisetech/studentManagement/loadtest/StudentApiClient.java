@@ -0,0 +1,130 @@
+package raisetech.studentManagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+
+/**
+ * 負荷試験で受講生管理システムの API にリクエストを送信するクライアントです。
+ */
+class StudentApiClient {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final int PAGE_SIZE = 100;
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .build();
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private final URI baseUri;
+  private final long minStudentId;
+  private final long maxStudentId;
+  private final int maxCoursesPerStudent;
+  private final AtomicLong nextNumber;
+  private final List<byte[]> searchConditions;
+
+  /**
+   * @param baseUri              送信先(例: http://localhost:8080)
+   * @param generated            事前に登録したデータ
+   * @param maxCoursesPerStudent 登録する受講生1人あたりの受講生コース情報の上限件数
+   */
+  StudentApiClient(URI baseUri, StudentDataGenerator.Result generated, int maxCoursesPerStudent)
+      throws IOException {
+    this.baseUri = baseUri;
+    this.minStudentId = generated.minStudentId();
+    this.maxStudentId = generated.maxStudentId();
+    this.maxCoursesPerStudent = maxCoursesPerStudent;
+    this.nextNumber = new AtomicLong(generated.studentCount() + 1);
+
+    StudentSearchCondition addressAndAge = new StudentSearchCondition();
+    addressAndAge.setAddress(StudentDataGenerator.ADDRESSES[0]);
+    addressAndAge.setMinAge(20);
+    addressAndAge.setMaxAge(29);
+    StudentSearchCondition name = new StudentSearchCondition();
+    name.setName("太郎");
+    StudentSearchCondition kanaName = new StudentSearchCondition();
+    kanaName.setKananame("ヤマダ");
+    this.searchConditions = List.of(objectMapper.writeValueAsBytes(addressAndAge),
+        objectMapper.writeValueAsBytes(name), objectMapper.writeValueAsBytes(kanaName));
+  }
+
+  /**
+   * リクエストを送信し、応答を受け取るまで待ちます。
+   *
+   * @param operation リクエストの種類
+   * @return ステータスコード
+   * @throws IOException          送信や応答の受信に失敗した場合
+   * @throws InterruptedException 応答を待っている間に割り込まれた場合
+   */
+  int execute(LoadTestOperation operation) throws IOException, InterruptedException {
+    return switch (operation) {
+      case STUDENT_LIST -> send(get("/studentList?limit=" + PAGE_SIZE)).statusCode();
+      case STUDENT -> send(get("/student/" + randomStudentId())).statusCode();
+      case SEARCH -> send(post("/students/search?limit=" + PAGE_SIZE, searchConditions.get(
+          ThreadLocalRandom.current().nextInt(searchConditions.size())))).statusCode();
+      case REGISTER -> register();
+      case UPDATE -> update();
+    };
+  }
+
+  private int register() throws IOException, InterruptedException {
+    StudentDetail studentDetail = StudentDataGenerator.createStudentDetail(
+        ThreadLocalRandom.current(), nextNumber.getAndIncrement(), maxCoursesPerStudent);
+    return send(post("/registerStudent", objectMapper.writeValueAsBytes(studentDetail)))
+        .statusCode();
+  }
+
+  private int update() throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = send(get("/student/" + randomStudentId()));
+    if (response.statusCode() != 200) {
+      return response.statusCode();
+    }
+    StudentDetail studentDetail = objectMapper.readValue(response.body(), StudentDetail.class);
+    studentDetail.getStudent().setRemark("負荷試験" + nextNumber.getAndIncrement());
+    return send(HttpRequest.newBuilder(baseUri.resolve("/updateStudent"))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .PUT(BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(studentDetail)))
+        .build()).statusCode();
+  }
+
+  private long randomStudentId() {
+    return ThreadLocalRandom.current().nextLong(minStudentId, maxStudentId + 1);
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .timeout(REQUEST_TIMEOUT)
+        .GET()
+        .build();
+  }
+
+  private HttpRequest post(String path, byte[] body) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofByteArray(body))
+        .build();
+  }
+
+  private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+    return httpClient.send(request, BodyHandlers.ofByteArray());
+  }
+}
@@ -0,0 +1,216 @@
+package raisetech.studentManagement.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.sql.DataSource;
+import raisetech.studentManagement.converter.KanaNormalizer;
+import raisetech.studentManagement.data.ApplicationStatus;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+
+/**
+ * 負荷試験用の受講生・受講生コース情報・申込状況をデータベースに登録するクラスです。
+ * 乱数の種を固定しているので、同じ件数と種を指定すれば毎回同じ内容を登録します。
+ * 受講生を一定件数ごとにまとめて登録し、そのまとまりごとに受講生コース情報と申込状況を登録してコミットするので、
+ * 件数に関わらず保持するデータはまとまり1つ分のみです。
+ */
+public class StudentDataGenerator {
+
+  private static final String[][] FAMILY_NAMES = {
+      {"山田", "ヤマダ"}, {"鈴木", "スズキ"}, {"田中", "タナカ"}, {"佐藤", "サトウ"},
+      {"伊藤", "イトウ"}, {"高橋", "タカハシ"}, {"渡辺", "ワタナベ"}, {"中村", "ナカムラ"},
+      {"小林", "コバヤシ"}, {"加藤", "カトウ"}, {"吉田", "ヨシダ"}, {"山本", "ヤマモト"}};
+
+  private static final String[][] GIVEN_NAMES = {
+      {"太郎", "タロウ"}, {"一郎", "イチロウ"}, {"花子", "ハナコ"}, {"良子", "リョウコ"},
+      {"悠", "ハルカ"}, {"健", "ケン"}, {"美咲", "ミサキ"}, {"翔", "ショウ"},
+      {"大輔", "ダイスケ"}, {"陽菜", "ヒナ"}, {"蓮", "レン"}, {"結衣", "ユイ"}};
+
+  static final String[] ADDRESSES = {"東京", "大阪", "北海道", "福岡", "愛知", "神奈川", "京都",
+      "沖縄", "宮城", "広島"};
+
+  private static final String[] GENDERS = {"男性", "女性", "その他"};
+
+  private static final String[] COURSE_NAMES = {"Javaコース", "AWSコース", "デザインコース",
+      "Web制作コース", "マーケティングコース"};
+
+  private static final LocalDateTime COURSE_START_AT = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+  private static final String INSERT_STUDENT = "INSERT INTO students (name, kananame,"
+      + " kananame_normalized, nickname, email, address, age, gender, remark, is_deleted)"
+      + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+  private static final String INSERT_STUDENT_COURSE = "INSERT INTO students_courses"
+      + " (student_id, course_name, course_start_at, course_end_at) VALUES (?, ?, ?, ?)";
+
+  private static final String INSERT_COURSE_STATUS =
+      "INSERT INTO course_status (student_course_id, status) VALUES (?, ?)";
+
+  private final DataSource dataSource;
+  private final long seed;
+  private final int batchSize;
+
+  public StudentDataGenerator(DataSource dataSource, long seed, int batchSize) {
+    this.dataSource = dataSource;
+    this.seed = seed;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * 受講生を指定した件数分登録し、受講生ごとに1〜上限件数の受講生コース情報と、受講生コース情報ごとに申込状況を1件登録します。
+   *
+   * @param studentCount          登録する受講生の件数
+   * @param maxCoursesPerStudent  受講生1人あたりの受講生コース情報の上限件数
+   * @return 登録した件数と採番された受講生IDの範囲
+   * @throws SQLException 登録に失敗した場合
+   */
+  public Result generate(int studentCount, int maxCoursesPerStudent) throws SQLException {
+    Random random = new Random(seed);
+    Counter counter = new Counter();
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (PreparedStatement studentStatement =
+          connection.prepareStatement(INSERT_STUDENT, new String[]{"id"});
+          PreparedStatement studentCourseStatement =
+              connection.prepareStatement(INSERT_STUDENT_COURSE, new String[]{"id"});
+          PreparedStatement courseStatusStatement =
+              connection.prepareStatement(INSERT_COURSE_STATUS)) {
+        for (int first = 1; first <= studentCount; first += batchSize) {
+          int last = Math.min(first + batchSize - 1, studentCount);
+          List<StudentDetail> studentDetailList = new ArrayList<>(last - first + 1);
+          for (int number = first; number <= last; number++) {
+            studentDetailList.add(createStudentDetail(random, number, maxCoursesPerStudent));
+          }
+          insert(studentDetailList, random, studentStatement, studentCourseStatement,
+              courseStatusStatement, counter);
+          connection.commit();
+        }
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      }
+    }
+    return new Result(counter.studentCount, counter.studentCourseCount, counter.minStudentId,
+        counter.maxStudentId);
+  }
+
+  private void insert(List<StudentDetail> studentDetailList, Random random,
+      PreparedStatement studentStatement, PreparedStatement studentCourseStatement,
+      PreparedStatement courseStatusStatement, Counter counter) throws SQLException {
+    for (StudentDetail studentDetail : studentDetailList) {
+      Student student = studentDetail.getStudent();
+      studentStatement.setString(1, student.getName());
+      studentStatement.setString(2, student.getKanaName());
+      studentStatement.setString(3, KanaNormalizer.normalize(student.getKanaName()));
+      studentStatement.setString(4, student.getNickname());
+      studentStatement.setString(5, student.getEmail());
+      studentStatement.setString(6, student.getAddress());
+      studentStatement.setInt(7, student.getAge());
+      studentStatement.setString(8, student.getGender());
+      studentStatement.setString(9, student.getRemark());
+      studentStatement.addBatch();
+    }
+    studentStatement.executeBatch();
+    List<Long> studentIds = generatedKeys(studentStatement);
+
+    for (int i = 0; i < studentDetailList.size(); i++) {
+      for (StudentCourse studentCourse : studentDetailList.get(i).getStudentCourseList()) {
+        studentCourseStatement.setString(1, String.valueOf(studentIds.get(i)));
+        studentCourseStatement.setString(2, studentCourse.getCourseName());
+        studentCourseStatement.setTimestamp(3, Timestamp.valueOf(studentCourse.getCourseStartAt()));
+        studentCourseStatement.setTimestamp(4, Timestamp.valueOf(studentCourse.getCourseEndAt()));
+        studentCourseStatement.addBatch();
+      }
+    }
+    studentCourseStatement.executeBatch();
+    List<Long> studentCourseIds = generatedKeys(studentCourseStatement);
+
+    ApplicationStatus[] statuses = ApplicationStatus.values();
+    for (Long studentCourseId : studentCourseIds) {
+      courseStatusStatement.setLong(1, studentCourseId);
+      courseStatusStatement.setInt(2, statuses[random.nextInt(statuses.length)].getCode());
+      courseStatusStatement.addBatch();
+    }
+    courseStatusStatement.executeBatch();
+
+    counter.studentCount += studentIds.size();
+    counter.studentCourseCount += studentCourseIds.size();
+    for (Long studentId : studentIds) {
+      counter.minStudentId = Math.min(counter.minStudentId, studentId);
+      counter.maxStudentId = Math.max(counter.maxStudentId, studentId);
+    }
+  }
+
+  private List<Long> generatedKeys(PreparedStatement statement) throws SQLException {
+    List<Long> keys = new ArrayList<>();
+    try (ResultSet resultSet = statement.getGeneratedKeys()) {
+      while (resultSet.next()) {
+        keys.add(resultSet.getLong(1));
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * 登録用の受講生詳細(IDは未設定)を作成します。 申込状況は登録時に設定されるので空のリストです。
+   *
+   * @param random               乱数
+   * @param number               メールアドレスを一意にするための番号
+   * @param maxCoursesPerStudent 受講生1人あたりの受講生コース情報の上限件数
+   * @return 受講生詳細
+   */
+  static StudentDetail createStudentDetail(Random random, long number, int maxCoursesPerStudent) {
+    String[] familyName = FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+    String[] givenName = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+
+    Student student = new Student();
+    student.setName(familyName[0] + givenName[0]);
+    student.setKanaName(familyName[1] + givenName[1]);
+    student.setNickname(givenName[1]);
+    student.setEmail("student" + number + "@example.com");
+    student.setAddress(ADDRESSES[random.nextInt(ADDRESSES.length)]);
+    student.setAge(18 + random.nextInt(50));
+    student.setGender(GENDERS[random.nextInt(GENDERS.length)]);
+    student.setRemark(random.nextInt(4) == 0 ? "初学者" : "");
+
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    int courseCount = 1 + random.nextInt(maxCoursesPerStudent);
+    for (int i = 0; i < courseCount; i++) {
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setCourseName(COURSE_NAMES[random.nextInt(COURSE_NAMES.length)]);
+      studentCourse.setCourseStartAt(COURSE_START_AT.plusDays(random.nextInt(365)));
+      studentCourse.setCourseEndAt(studentCourse.getCourseStartAt().plusMonths(3));
+      studentCourseList.add(studentCourse);
+    }
+    return new StudentDetail(student, studentCourseList, new ArrayList<>());
+  }
+
+  /**
+   * 登録した件数と採番された受講生IDの範囲です。 申込状況は受講生コース情報と同じ件数を登録します。
+   *
+   * @param studentCount       登録した受講生の件数
+   * @param studentCourseCount 登録した受講生コース情報の件数
+   * @param minStudentId       採番された受講生IDの最小値
+   * @param maxStudentId       採番された受講生IDの最大値
+   */
+  public record Result(long studentCount, long studentCourseCount, long minStudentId,
+                       long maxStudentId) {
+
+  }
+
+  private static class Counter {
+
+    private long studentCount;
+    private long studentCourseCount;
+    private long minStudentId = Long.MAX_VALUE;
+    private long maxStudentId = Long.MIN_VALUE;
+  }
+}
@@ -0,0 +1,166 @@
+package raisetech.studentManagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.studentManagement.StudentManagementApplication;
+import raisetech.studentManagement.loadtest.LatencyRecorder.Summary;
+
+/**
+ * 受講生管理システムの負荷試験です。
+ * H2(MySQL モード)を接続先としてアプリケーションを起動し、{@link StudentDataGenerator} で受講生詳細を登録したうえで、
+ * 指定した比率で各 API にリクエストを一定の間隔で送信し、スループットと応答時間のパーセンタイルを出力します。
+ * リクエストは応答を待たずに予定した時刻に送信し、応答時間は予定した送信時刻から計るので、
+ * サーバーが遅れた場合の待ち時間も応答時間に含まれます。
+ * 設定値は {@link LoadTestSettings} を参照してください。
+ */
+public class StudentLoadTest {
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    try (ConfigurableApplicationContext context = startApplication(settings)) {
+      long generateStart = System.nanoTime();
+      StudentDataGenerator.Result generated = new StudentDataGenerator(
+          context.getBean(DataSource.class), settings.seed(), settings.batchSize())
+          .generate(settings.students(), settings.maxCoursesPerStudent());
+      System.out.printf("受講生 %,d 件・受講生コース情報 %,d 件を登録しました。(%.1f 秒)%n",
+          generated.studentCount(), generated.studentCourseCount(),
+          (System.nanoTime() - generateStart) / 1e9);
+
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      StudentApiClient client = new StudentApiClient(URI.create("http://localhost:" + port),
+          generated, settings.maxCoursesPerStudent());
+
+      System.out.printf("ウォームアップ: %d 秒%n", settings.warmupSeconds());
+      run(client, settings, settings.warmupSeconds(), null, null);
+
+      System.out.printf("計測: %d 秒 (%,d リクエスト/秒)%n", settings.durationSeconds(),
+          settings.rate());
+      Map<LoadTestOperation, LatencyRecorder> recorders = new EnumMap<>(LoadTestOperation.class);
+      settings.mix().keySet().forEach(operation -> recorders.put(operation, new LatencyRecorder()));
+      LatencyRecorder total = new LatencyRecorder();
+      long start = System.nanoTime();
+      run(client, settings, settings.durationSeconds(), recorders, total);
+      double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+      List<Summary> summaries = new ArrayList<>();
+      recorders.forEach((operation, recorder) ->
+          summaries.add(recorder.summarize(operation.getName(), elapsedSeconds)));
+      summaries.add(total.summarize("total", elapsedSeconds));
+      print(summaries);
+      writeReport(settings, generated, elapsedSeconds, summaries);
+    }
+  }
+
+  private static ConfigurableApplicationContext startApplication(LoadTestSettings settings) {
+    return new SpringApplicationBuilder(StudentManagementApplication.class).run(
+        "--server.port=0",
+        "--spring.datasource.url=" + settings.jdbcUrl(),
+        "--spring.datasource.driver-class-name=org.h2.Driver",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.main.banner-mode=off",
+        "--logging.level.root=warn");
+  }
+
+  /**
+   * 指定した時間、設定した間隔でリクエストを送信し、すべての応答を受け取るまで待ちます。
+   * 記録先が null の場合は応答時間を記録しません。
+   */
+  private static void run(StudentApiClient client, LoadTestSettings settings, int seconds,
+      Map<LoadTestOperation, LatencyRecorder> recorders, LatencyRecorder total) {
+    List<LoadTestOperation> operations = new ArrayList<>(settings.mix().keySet());
+    int[] cumulativeWeights = new int[operations.size()];
+    int weightSum = 0;
+    for (int i = 0; i < operations.size(); i++) {
+      weightSum += settings.mix().get(operations.get(i));
+      cumulativeWeights[i] = weightSum;
+    }
+
+    long requestCount = (long) settings.rate() * seconds;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      long start = System.nanoTime();
+      for (long i = 0; i < requestCount; i++) {
+        long scheduledAt = start + i * 1_000_000_000L / settings.rate();
+        long delay = scheduledAt - System.nanoTime();
+        if (delay > 0) {
+          LockSupport.parkNanos(delay);
+        }
+        int pick = ThreadLocalRandom.current().nextInt(weightSum);
+        int index = 0;
+        while (cumulativeWeights[index] <= pick) {
+          index++;
+        }
+        LoadTestOperation operation = operations.get(index);
+        executor.execute(() -> send(client, operation, scheduledAt,
+            recorders == null ? null : recorders.get(operation), total));
+      }
+    }
+  }
+
+  private static void send(StudentApiClient client, LoadTestOperation operation,
+      long scheduledAt, LatencyRecorder recorder, LatencyRecorder total) {
+    try {
+      int statusCode = client.execute(operation);
+      long latency = System.nanoTime() - scheduledAt;
+      if (recorder != null) {
+        recorder.record(latency, statusCode);
+        total.record(latency, statusCode);
+      }
+    } catch (IOException e) {
+      if (recorder != null) {
+        recorder.recordFailure(e);
+        total.recordFailure(e);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void print(List<Summary> summaries) {
+    System.out.printf("%-12s %9s %7s %10s %9s %9s %9s %9s %9s%n", "request", "count", "errors",
+        "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+    for (Summary summary : summaries) {
+      System.out.printf("%-12s %,9d %,7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+          summary.name(), summary.count(), summary.errorCount(), summary.throughputPerSecond(),
+          summary.p50Millis(), summary.p90Millis(), summary.p99Millis(), summary.p999Millis(),
+          summary.maxMillis());
+    }
+  }
+
+  private static void writeReport(LoadTestSettings settings,
+      StudentDataGenerator.Result generated, double elapsedSeconds, List<Summary> summaries)
+      throws IOException {
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("settings", settings);
+    report.put("generated", generated);
+    report.put("elapsedSeconds", elapsedSeconds);
+    report.put("requests", summaries);
+
+    Path path = Path.of(settings.report());
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+    objectMapper.writeValue(path.toFile(), report);
+    System.out.println("集計結果を出力しました。(" + path.toAbsolutePath() + ")");
+  }
+}
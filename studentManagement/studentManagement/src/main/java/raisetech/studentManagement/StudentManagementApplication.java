@@ -4,10 +4,15 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.bind.annotation.RestController;
+import raisetech.studentManagement.config.StudentManagementProperties;
 
 @OpenAPIDefinition(info = @Info(title = "受講生管理システム"))
 @SpringBootApplication
+@EnableConfigurationProperties(StudentManagementProperties.class)
+@EnableScheduling
 public class StudentManagementApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,72 @@
+package raisetech.studentManagement.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import org.springframework.stereotype.Component;
+import raisetech.studentManagement.data.CourseStatus;
+import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細の変更を追跡し、条件付き GET で使用する ETag を求めるクラスです。
+ * <p>
+ * 一覧の ETag は、起動時刻と受講生詳細が登録・更新された回数から求めます。 起動時刻を含めるので、再起動しても以前の ETag と一致しません。
+ * 受講生詳細の ETag は、受講生・受講生コース情報・申込状況のIDとバージョンから求めます。
+ * どちらもレスポンスを組み立てずに求められます。
+ * </p>
+ */
+@Component
+public class StudentChangeTracker {
+
+  private final long startedAt = System.currentTimeMillis();
+
+  private final AtomicLong changeCount = new AtomicLong();
+
+  /**
+   * 受講生詳細の一覧の ETag を返します。
+   * 一覧を取得する前に呼び出してください。 取得中に更新された場合でも、古い内容に新しい ETag を付けることがなくなります。
+   *
+   * @return 受講生詳細の一覧の ETag
+   */
+  public String listETag() {
+    return "\"" + Long.toHexString(startedAt) + "-" + Long.toHexString(changeCount.get()) + "\"";
+  }
+
+  /**
+   * 受講生詳細の ETag を返します。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 受講生詳細の ETag
+   */
+  public String detailETag(StudentDetail studentDetail) {
+    StringBuilder versions = new StringBuilder();
+    for (StudentCourse studentCourse : nullToEmpty(studentDetail.getStudentCourseList())) {
+      versions.append('c').append(studentCourse.getId()).append(':')
+          .append(studentCourse.getVersion()).append(',');
+    }
+    for (CourseStatus courseStatus : nullToEmpty(studentDetail.getCourseStatusList())) {
+      versions.append('s').append(courseStatus.getId()).append(':')
+          .append(courseStatus.getVersion()).append(',');
+    }
+    CRC32 crc32 = new CRC32();
+    crc32.update(versions.toString().getBytes(StandardCharsets.UTF_8));
+    return "\"" + studentDetail.getStudent().getId() + "-" + studentDetail.getStudent().getVersion()
+        + "-" + Long.toHexString(crc32.getValue()) + "\"";
+  }
+
+  /**
+   * 受講生詳細が登録・更新された回数を増やします。
+   * 受講生詳細の一覧のスナップショットに反映した後に呼び出してください。
+   * 反映する前に呼び出すと、古い一覧に新しい ETag が付き、以降の条件付き GET で古い一覧のまま 304 が返ります。
+   */
+  public void recordChange() {
+    changeCount.incrementAndGet();
+  }
+
+  private static <T> List<T> nullToEmpty(List<T> list) {
+    return Objects.isNull(list) ? List.of() : list;
+  }
+}
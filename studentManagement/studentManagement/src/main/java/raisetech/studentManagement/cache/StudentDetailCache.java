@@ -0,0 +1,81 @@
+package raisetech.studentManagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.converter.StudentConverter;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentCacheStats;
+import raisetech.studentManagement.event.StudentChangedEvent;
+
+/**
+ * 受講生IDごとに受講生詳細を保持するキャッシュです。
+ * <p>
+ * 件数の上限と有効期限を超えたものは破棄します。 受講生詳細が登録・更新された場合は、コミット後にその受講生のみを破棄します。
+ * キャッシュには複製した受講生詳細を保持し、取得時にも複製を返すので、呼び出し元が変更してもキャッシュの内容は変わりません。
+ * </p>
+ */
+@Component
+public class StudentDetailCache {
+
+  private final Cache<String, StudentDetail> cache;
+  private final StudentConverter converter;
+
+  @Autowired
+  public StudentDetailCache(StudentConverter converter, StudentManagementProperties properties) {
+    StudentManagementProperties.Cache cacheProperties = properties.getCache();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(cacheProperties.getMaximumSize())
+        .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+        .recordStats()
+        .build();
+    this.converter = converter;
+  }
+
+  /**
+   * 受講生詳細を取得します。 キャッシュにない場合は読み込んでキャッシュに保持します。
+   * 読み込み時に例外がスローされた場合はキャッシュに保持せず、そのままスローします。
+   *
+   * @param id     受講生ID
+   * @param loader キャッシュにない場合の受講生詳細の読み込み処理
+   * @return 受講生詳細の複製
+   */
+  public StudentDetail get(String id, Function<String, StudentDetail> loader) {
+    return converter.copyStudentDetail(
+        cache.get(id, key -> converter.copyStudentDetail(loader.apply(key))));
+  }
+
+  /**
+   * 登録・更新された受講生詳細をキャッシュから破棄します。
+   * トランザクション内で通知された場合はコミット後に、トランザクション外で通知された場合はすぐに破棄します。
+   *
+   * @param event 受講生詳細の登録・更新の通知
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudentChanged(StudentChangedEvent event) {
+    cache.invalidateAll(event.studentIds());
+  }
+
+  /**
+   * キャッシュの統計情報を取得します。
+   *
+   * @return キャッシュの統計情報
+   */
+  public StudentCacheStats stats() {
+    CacheStats stats = cache.stats();
+    return new StudentCacheStats(stats.hitCount(), stats.missCount(), stats.hitRate(),
+        stats.evictionCount(), cache.estimatedSize());
+  }
+
+  /**
+   * 保留中の破棄などの処理を実行します。 テストで件数の上限による破棄を確認する場合に使用します。
+   */
+  void cleanUp() {
+    cache.cleanUp();
+  }
+}
@@ -0,0 +1,87 @@
+package raisetech.studentManagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.dto.StudentFacets;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+import raisetech.studentManagement.event.StudentChangedEvent;
+
+/**
+ * 検索条件ごとに受講生の集計結果を保持するキャッシュです。
+ * 受講生詳細が登録・更新された場合は、どの検索条件の集計結果も変わりうるので、コミット後にすべて破棄します。
+ * <p>
+ * 集計中の結果は破棄しても集計が終わった後にキャッシュに残るので、集計結果には集計を始めた時点の更新回数を付けて保持します。
+ * 取得した集計結果がその後の更新より前のものであれば、キャッシュから取り除いて集計し直します。
+ * </p>
+ */
+@Component
+public class StudentFacetsCache {
+
+  private final Cache<StudentSearchCondition, Entry> cache;
+
+  /**
+   * 受講生詳細が登録・更新された回数です。
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  @Autowired
+  public StudentFacetsCache(StudentManagementProperties properties) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getFacets().getCacheMaximumSize())
+        .build();
+  }
+
+  /**
+   * 集計結果を取得します。 キャッシュにない場合は集計してキャッシュに保持します。
+   * 集計結果の各項目は変更できないマップで保持し、取得のたびに新しい集計結果に詰め替えて返します。
+   *
+   * @param condition 検索条件
+   * @param loader    キャッシュにない場合の集計処理
+   * @return 集計結果
+   */
+  public StudentFacets get(StudentSearchCondition condition,
+      Function<StudentSearchCondition, StudentFacets> loader) {
+    // 呼び出し元が検索条件を変更してもキーが変わらないように、複製したものをキーにする。
+    StudentSearchCondition key = new StudentSearchCondition();
+    BeanUtils.copyProperties(condition, key);
+    while (true) {
+      long current = generation.get();
+      Entry entry = cache.get(key, k -> new Entry(current, loader.apply(k)));
+      if (entry.generation() != generation.get()) {
+        // 集計を始めた後に更新されたので、キャッシュには残さない。
+        cache.asMap().remove(key, entry);
+      }
+      // この呼び出しの開始以降に始めた集計であれば、そのまま返す。 それより前の集計結果であれば集計し直す。
+      if (entry.generation() >= current) {
+        StudentFacets facets = entry.facets();
+        return new StudentFacets(facets.getStatusCounts(), facets.getCourseNameCounts(),
+            facets.getAddressCounts());
+      }
+    }
+  }
+
+  /**
+   * 受講生詳細が登録・更新された場合に、コミット後に集計結果をすべて破棄します。
+   *
+   * @param event 受講生詳細の登録・更新の通知
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudentChanged(StudentChangedEvent event) {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+
+  /**
+   * 集計結果と、集計を始めた時点の更新回数です。
+   */
+  private record Entry(long generation, StudentFacets facets) {
+
+  }
+}
@@ -0,0 +1,98 @@
+package raisetech.studentManagement.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import raisetech.studentManagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細の一覧(全件)をメモリ上に保持するスナップショットです。
+ * <p>
+ * 最初に参照されたときに一度だけ読み込み、以降は受講生詳細が登録・更新されるたびに該当する受講生のみを差し替えます。
+ * 差し替えは新しいリストを作成して入れ替えるので、参照する側はロックを取らずに常に一貫した一覧を取得できます。
+ * 返すリストは変更できません。 リストに含まれる受講生詳細は他の参照と共有しているので、変更しないでください。
+ * </p>
+ */
+@Component
+public class StudentListSnapshot {
+
+  private static final Comparator<StudentDetail> BY_STUDENT_ID =
+      Comparator.comparingLong(studentDetail -> Long.parseLong(studentDetail.getStudent().getId()));
+
+  /**
+   * 読み込みと差し替えを1つずつ行うためのロックです。
+   * 読み込みでは並行検索の仮想スレッドの終了を待つので、synchronized は使いません。
+   * synchronized の中で待つと仮想スレッドがキャリアスレッドを占有したままになり、キャリアスレッドが足りない場合は並行検索が実行されずに止まります。
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private volatile List<StudentDetail> snapshot;
+
+  /**
+   * 受講生詳細の一覧を取得します。 まだ読み込んでいない場合は読み込んで保持します。
+   *
+   * @param loader 受講生詳細の一覧(全件)の読み込み処理
+   * @return 受講生IDの昇順に並んだ受講生詳細の一覧(変更不可)
+   */
+  public List<StudentDetail> get(Supplier<List<StudentDetail>> loader) {
+    List<StudentDetail> current = snapshot;
+    if (Objects.nonNull(current)) {
+      return current;
+    }
+    lock.lock();
+    try {
+      if (Objects.isNull(snapshot)) {
+        snapshot = sort(new ArrayList<>(loader.get()));
+      }
+      return snapshot;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 登録・更新された受講生の受講生詳細を読み込み直して、スナップショットを差し替えます。
+   * 読み込み直した結果に含まれない受講生(論理削除された受講生など)はスナップショットから除きます。
+   * まだ読み込んでいない場合は、次に参照されたときに最新の一覧を読み込むので何もしません。
+   *
+   * @param studentIds 登録・更新された受講生のID
+   * @param loader     受講生IDの一覧に該当する受講生詳細の読み込み処理
+   */
+  public void patch(Collection<String> studentIds,
+      Function<Collection<String>, List<StudentDetail>> loader) {
+    if (studentIds.isEmpty()) {
+      return;
+    }
+    lock.lock();
+    try {
+      List<StudentDetail> current = snapshot;
+      if (Objects.isNull(current)) {
+        return;
+      }
+      Set<String> changedIds = new HashSet<>(studentIds);
+      List<StudentDetail> next = new ArrayList<>(current.size() + changedIds.size());
+      for (StudentDetail studentDetail : current) {
+        if (!changedIds.contains(studentDetail.getStudent().getId())) {
+          next.add(studentDetail);
+        }
+      }
+      next.addAll(loader.apply(changedIds));
+      snapshot = sort(next);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private List<StudentDetail> sort(List<StudentDetail> studentDetailList) {
+    studentDetailList.sort(BY_STUDENT_ID);
+    return List.copyOf(studentDetailList);
+  }
+}
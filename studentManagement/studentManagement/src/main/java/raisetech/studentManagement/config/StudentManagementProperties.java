@@ -0,0 +1,334 @@
+package raisetech.studentManagement.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 受講生管理システムの設定値を保持するクラスです。
+ * application.properties の {@code student-management.*} から値を読み込みます。
+ */
+@Data
+@ConfigurationProperties(prefix = "student-management")
+public class StudentManagementProperties {
+
+  private Converter converter = new Converter();
+
+  private Paging paging = new Paging();
+
+  private Export export = new Export();
+
+  private Query query = new Query();
+
+  private Bulk bulk = new Bulk();
+
+  private Importer importer = new Importer();
+
+  private Cache cache = new Cache();
+
+  private Snapshot snapshot = new Snapshot();
+
+  private SearchIndex searchIndex = new SearchIndex();
+
+  private BitmapIndex bitmapIndex = new BitmapIndex();
+
+  private Facets facets = new Facets();
+
+  private FanOut fanOut = new FanOut();
+
+  private Etag etag = new Etag();
+
+  private StatementMonitor statementMonitor = new StatementMonitor();
+
+  private Archive archive = new Archive();
+
+  /**
+   * 受講生詳細の組み立てに関する設定です。
+   */
+  @Data
+  public static class Converter {
+
+    /**
+     * 受講生の件数がこの値以上の場合に受講生詳細の組み立てを並列で行います。
+     */
+    private int parallelThreshold = 10_000;
+  }
+
+  /**
+   * ページ検索に関する設定です。
+   */
+  @Data
+  public static class Paging {
+
+    /**
+     * 取得件数を指定しなかった場合の1ページあたりの件数です。
+     */
+    private int defaultLimit = 100;
+
+    /**
+     * 1ページあたりに取得できる最大件数です。
+     */
+    private int maxLimit = 1000;
+  }
+
+  /**
+   * 受講生詳細の一括出力に関する設定です。
+   */
+  @Data
+  public static class Export {
+
+    /**
+     * 受講生コース情報と申込状況をまとめて取得する受講生の件数です。
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 一括出力全体の制限時間です。 これを過ぎると出力を中断し、カーソルを閉じてコネクションを返します。
+     */
+    private Duration timeout = Duration.ofMinutes(10);
+  }
+
+  /**
+   * 受講生の検索に関する設定です。
+   */
+  @Data
+  public static class Query {
+
+    /**
+     * IN句に渡すIDの最大件数です。 これを超える場合は分割して検索します。
+     */
+    private int inClauseChunkSize = 1000;
+
+    /**
+     * 受講生詳細の一覧検索で使用する取得方式です。
+     */
+    private QueryMode searchStudentListMode = QueryMode.MULTI;
+
+    /**
+     * 受講生詳細の検索で使用する取得方式です。
+     */
+    private QueryMode searchStudentMode = QueryMode.MULTI;
+
+    /**
+     * 受講生詳細の条件指定検索で使用する取得方式です。
+     */
+    private QueryMode searchByConditionMode = QueryMode.MULTI;
+  }
+
+  /**
+   * 受講生詳細の一括登録に関する設定です。
+   */
+  @Data
+  public static class Bulk {
+
+    /**
+     * 1つのトランザクションでまとめて登録する受講生詳細の件数です。
+     */
+    private int chunkSize = 500;
+  }
+
+  /**
+   * CSV/TSV ファイルからの受講生詳細の取り込みに関する設定です。
+   */
+  @Data
+  public static class Importer {
+
+    /**
+     * 1つのトランザクションでまとめて登録する受講生詳細の件数です。
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 読み込み済みで登録待ちにできるまとまりの最大数です。 これを超えると登録が追いつくまで読み込みを待ちます。
+     */
+    private int bufferedChunks = 4;
+
+    /**
+     * 進捗をログに出力する間隔(行数)です。
+     */
+    private int progressInterval = 10_000;
+  }
+
+  /**
+   * 受講生詳細のキャッシュに関する設定です。
+   */
+  @Data
+  public static class Cache {
+
+    /**
+     * キャッシュに保持する受講生詳細の最大件数です。
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * キャッシュに保持してから破棄するまでの時間です。
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+  }
+
+  /**
+   * 受講生詳細の一覧のスナップショットに関する設定です。
+   */
+  @Data
+  public static class Snapshot {
+
+    /**
+     * true の場合は受講生詳細の一覧検索をメモリ上のスナップショットから返します。
+     * 複数のアプリケーションから同じデータベースを更新する構成では、他のアプリケーションでの更新が反映されないため false にします。
+     */
+    private boolean enabled = true;
+  }
+
+  /**
+   * 受講生の条件指定検索で使用するメモリ上の索引に関する設定です。
+   */
+  @Data
+  public static class SearchIndex {
+
+    /**
+     * true の場合は、名前・カナ名・ニックネーム・メールアドレス・備考の部分一致検索を N-gram の索引で行います。
+     * 複数のアプリケーションから同じデータベースを更新する構成では、他のアプリケーションでの更新が反映されないため false にします。
+     */
+    private boolean enabled = true;
+  }
+
+  /**
+   * 受講生の条件指定検索で使用するメモリ上のビットマップ索引に関する設定です。
+   */
+  @Data
+  public static class BitmapIndex {
+
+    /**
+     * true の場合は、居住地域・性別・年齢による絞り込みをビットマップ索引で行います。
+     * 複数のアプリケーションから同じデータベースを更新する構成では、他のアプリケーションでの更新が反映されないため false にします。
+     */
+    private boolean enabled = true;
+  }
+
+  /**
+   * 受講生の集計に関する設定です。
+   */
+  @Data
+  public static class Facets {
+
+    /**
+     * 集計結果をキャッシュに保持する検索条件の最大件数です。
+     */
+    private long cacheMaximumSize = 1000;
+  }
+
+  /**
+   * 受講生詳細の組み立てに必要な検索の並行実行に関する設定です。
+   */
+  @Data
+  public static class FanOut {
+
+    /**
+     * true の場合は、受講生・受講生コース情報・申込状況の検索を仮想スレッドで並行して実行します。
+     */
+    private boolean enabled = true;
+
+    /**
+     * 同時に実行する検索の最大数です。 コネクションプールの最大コネクション数の半分を超える場合は、その値に切り詰めます。
+     */
+    private int maxConcurrentQueries = 16;
+  }
+
+  /**
+   * 受講生詳細の条件付き GET(ETag)に関する設定です。
+   */
+  @Data
+  public static class Etag {
+
+    /**
+     * true の場合は、受講生詳細と一覧の取得で ETag を返し、If-None-Match が一致すれば 304 を返します。
+     * 一覧の ETag はこのアプリケーションでの更新回数から求めるので、複数のアプリケーションから同じデータベースを更新する構成では false にします。
+     */
+    private boolean enabled = true;
+  }
+
+  /**
+   * マッパーのステートメントの監視(遅いステートメントと N+1 の検出)に関する設定です。
+   */
+  @Data
+  public static class StatementMonitor {
+
+    /**
+     * true の場合は、遅いステートメントのログ出力と、1リクエストで同じステートメントが繰り返し実行された場合の警告を行います。
+     */
+    private boolean enabled = true;
+
+    /**
+     * 実行時間がこの値を超えたステートメントを、パラメーターと件数とともにログに出力します。
+     */
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    /**
+     * 1リクエストで同じステートメントがこの回数を超えて実行された場合に、N+1 の疑いとして警告します。
+     */
+    private int repeatThreshold = 10;
+
+    /**
+     * 遅いステートメントのログに出力するパラメーターの最大数です。
+     */
+    private int maxLoggedParameters = 20;
+
+    /**
+     * ログにそのまま出力するパラメーター(プロパティ名)です。 これ以外のパラメーターは個人情報を含む可能性があるので伏せ字にします。
+     */
+    private Set<String> unmaskedParameters = Set.of("id", "studentId", "studentCourseId",
+        "courseName", "courseStartAt", "courseEndAt", "status", "version", "isDeleted", "afterId",
+        "limit", "minAge", "maxAge");
+
+    /**
+     * 同じステートメントの繰り返しを警告しないリクエストのパスです。 一定件数ごとにまとめて登録する一括登録・取り込みなどを指定します。
+     */
+    private List<String> ignoredPaths = List.of("/registerStudents", "/importStudents",
+        "/archiveStudents");
+  }
+
+  /**
+   * 論理削除済みの受講生のアーカイブに関する設定です。
+   */
+  @Data
+  public static class Archive {
+
+    /**
+     * true の場合は、論理削除済みの受講生とその受講生コース情報・申込状況を定期的にアーカイブ用のテーブルへ移動します。
+     */
+    private boolean enabled = true;
+
+    /**
+     * 定期的なアーカイブを実行する日時(cron 形式)です。
+     */
+    private String cron = "0 0 3 * * *";
+
+    /**
+     * 1つのトランザクションで移動する受講生の件数です。
+     */
+    private int batchSize = 500;
+
+    /**
+     * 1回のアーカイブで実行するトランザクションの最大数です。 残りの受講生は次回のアーカイブで移動します。
+     */
+    private int maxBatches = 100;
+  }
+
+  /**
+   * 受講生詳細の取得方式です。
+   */
+  public enum QueryMode {
+
+    /**
+     * 受講生・受講生コース情報・申込状況をそれぞれ個別のクエリで取得します。
+     */
+    MULTI,
+
+    /**
+     * 受講生・受講生コース情報・申込状況を結合した1回のクエリで取得します。
+     */
+    JOINED
+  }
+}
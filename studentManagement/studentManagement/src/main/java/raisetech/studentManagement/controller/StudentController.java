@@ -1,15 +1,28 @@
 package raisetech.studentManagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -20,11 +33,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import raisetech.studentManagement.config.StudentManagementProperties;
 import raisetech.studentManagement.data.StudentCourse;
 import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentArchiveResult;
+import raisetech.studentManagement.dto.StudentBulkRegisterResult;
+import raisetech.studentManagement.dto.StudentCacheStats;
+import raisetech.studentManagement.dto.StudentFacets;
+import raisetech.studentManagement.dto.StudentImportResult;
+import raisetech.studentManagement.dto.StudentPage;
 import raisetech.studentManagement.dto.StudentSearchCondition;
+import raisetech.studentManagement.dto.StudentUpdateResult;
 import raisetech.studentManagement.exception.TestException;
+import raisetech.studentManagement.service.StudentArchiveService;
+import raisetech.studentManagement.service.StudentBulkRegisterService;
+import raisetech.studentManagement.service.StudentImportService;
 import raisetech.studentManagement.service.StudentService;
 
 /**
@@ -34,11 +62,38 @@ import raisetech.studentManagement.service.StudentService;
 @RestController
 public class StudentController {
 
+  /**
+   * 次ページ取得用のカーソルを返すレスポンスヘッダー名です。
+   */
+  static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  /**
+   * TSV ファイルのメディアタイプです。
+   */
+  static final String TEXT_TSV_VALUE = "text/tab-separated-values";
+
+  /**
+   * CSV ファイルのメディアタイプです。
+   */
+  static final String TEXT_CSV_VALUE = "text/csv";
+
   private StudentService service;
+  private StudentBulkRegisterService bulkRegisterService;
+  private StudentImportService importService;
+  private StudentArchiveService archiveService;
+  private ObjectMapper objectMapper;
+  private Duration exportTimeout;
 
   @Autowired
-  public StudentController(StudentService service) {
+  public StudentController(StudentService service, StudentBulkRegisterService bulkRegisterService,
+      StudentImportService importService, StudentArchiveService archiveService,
+      ObjectMapper objectMapper, StudentManagementProperties properties) {
     this.service = service;
+    this.bulkRegisterService = bulkRegisterService;
+    this.importService = importService;
+    this.archiveService = archiveService;
+    this.objectMapper = objectMapper;
+    this.exportTimeout = properties.getExport().getTimeout();
   }
 
   @GetMapping("/exception")
@@ -53,49 +108,213 @@ public class StudentController {
 
   /**
    * 受講生詳細の一覧検索です。
-   * 全件検索を行うもので、条件指定は行わないものになります。
+   * limit と after を指定しない場合は全件検索を行うもので、条件指定は行わないものになります。
+   * どちらかを指定した場合は受講生IDの昇順にページ検索を行い、次ページが存在する場合はカーソルを X-Next-Cursor ヘッダーで返します。
+   * 一覧の ETag を返し、If-None-Match が一致する場合は一覧を取得せずに 304 を返します。
    *
-   * @return 受講生詳細一覧(全件)
+   * @param limit      1ページあたりの件数
+   * @param after      前ページの検索結果で返されたカーソル
+   * @param webRequest リクエスト
+   * @return 受講生詳細一覧(全件、もしくは1ページ分)
    */
   @Operation(summary = "一覧検索", description = "受講生の一覧を検索します。")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "正常に取得"),
+      @ApiResponse(responseCode = "304", description = "前回の取得から変更されていない")
+  })
   @GetMapping("/studentList")
-  public List<StudentDetail> getStudentList() {
-    return service.searchStudentList();
+  public ResponseEntity<List<StudentDetail>> getStudentList(
+      @RequestParam(required = false) @Min(1) Integer limit,
+      @RequestParam(required = false) String after, WebRequest webRequest) {
+    if (isNotModified(webRequest, service.getStudentListETag())) {
+      return null;
+    }
+    if (Objects.isNull(limit) && Objects.isNull(after)) {
+      return ResponseEntity.ok(service.searchStudentList());
+    }
+    return toPageResponse(service.searchStudentList(limit, after));
+  }
+
+  /**
+   * 受講生詳細の全件を NDJSON(1行に1件の JSON)形式で出力します。
+   * 受講生詳細は取得した順に出力されるので、件数に関わらず一定のメモリで出力できます。
+   * 出力はクライアントの受信速度に合わせて行われます。
+   * 出力中はカーソルのためにコネクションを保持し続けるので、出力全体に student-management.export.timeout の制限時間を設けます。
+   * 制限時間を過ぎた場合は次の受講生詳細を出力する前に中断し、カーソルを閉じてコネクションを返します。
+   *
+   * @param response 受講生詳細を書き込むレスポンス
+   * @return 受講生詳細一覧(全件)を NDJSON で出力する非同期処理
+   */
+  @Operation(summary = "一覧出力", description = "受講生詳細の全件を NDJSON 形式で出力します。")
+  @GetMapping(value = "/studentList/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public WebAsyncTask<Void> exportStudentList(HttpServletResponse response) {
+    ObjectWriter writer = objectMapper.writerFor(StudentDetail.class);
+    AtomicBoolean timedOut = new AtomicBoolean();
+    // StreamingResponseBody を返すと書き込みが別の非同期処理になり、この制限時間が効かないので、ここで直接書き込む。
+    Callable<Void> export = () -> {
+      response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+      OutputStream outputStream = response.getOutputStream();
+      service.exportStudentList(studentDetail -> {
+        if (timedOut.get()) {
+          throw new AsyncRequestTimeoutException();
+        }
+        try {
+          outputStream.write(writer.writeValueAsBytes(studentDetail));
+          outputStream.write('\n');
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      outputStream.flush();
+      return null;
+    };
+    WebAsyncTask<Void> task = new WebAsyncTask<>(exportTimeout.toMillis(), export);
+    task.onTimeout(() -> {
+      timedOut.set(true);
+      return null;
+    });
+    return task;
   }
 
   /**
    * 受講生詳細の検索です。
    * IDに紐づく任意の受講生の情報を取得します。
+   * 受講生詳細のバージョンから求めた ETag を返し、If-None-Match が一致する場合は 304 を返します。
    *
-   * @param id 受講生ID
+   * @param id         受講生ID
+   * @param webRequest リクエスト
    * @return 受講生
    */
   @Operation(summary = "受講生詳細の検索", description = "受講生詳細を検索します。")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "正常に取得"),
+      @ApiResponse(responseCode = "304", description = "前回の取得から変更されていない"),
       @ApiResponse(responseCode = "400", description = "不正なID"),
       @ApiResponse(responseCode = "404", description = "受講生が存在しない")
   })
   @GetMapping("/student/{id}")
-  public StudentDetail getStudent(
+  public ResponseEntity<StudentDetail> getStudent(
+      @PathVariable @NotBlank @Pattern(regexp = "^\\d+$") String id, WebRequest webRequest) {
+    StudentDetail studentDetail = service.searchStudent(id);
+    if (isNotModified(webRequest, service.getStudentETag(studentDetail))) {
+      return null;
+    }
+    return ResponseEntity.ok(studentDetail);
+  }
+
+  /**
+   * アーカイブした受講生詳細の検索です。
+   * 論理削除済みでアーカイブ用のテーブルへ移動した受講生は、受講生詳細の検索では取得できないのでこちらで取得します。
+   *
+   * @param id 受講生ID
+   * @return アーカイブした受講生詳細
+   */
+  @Operation(summary = "アーカイブした受講生詳細の検索", description = "アーカイブした受講生詳細を検索します。")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "正常に取得"),
+      @ApiResponse(responseCode = "400", description = "不正なID"),
+      @ApiResponse(responseCode = "404", description = "アーカイブした受講生が存在しない")
+  })
+  @GetMapping("/archivedStudent/{id}")
+  public StudentDetail getArchivedStudent(
       @PathVariable @NotBlank @Pattern(regexp = "^\\d+$") String id) {
-    return service.searchStudent(id);
+    return service.searchArchivedStudent(id);
+  }
+
+  /**
+   * アーカイブした受講生詳細の一覧検索です。
+   * 受講生IDの昇順にページ検索を行い、次ページが存在する場合はカーソルを X-Next-Cursor ヘッダーで返します。
+   *
+   * @param limit 1ページあたりの件数
+   * @param after 前ページの検索結果で返されたカーソル
+   * @return アーカイブした受講生詳細の1ページ分
+   */
+  @Operation(summary = "アーカイブした受講生の一覧検索", description = "アーカイブした受講生の一覧を検索します。")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "正常に取得"),
+      @ApiResponse(responseCode = "400", description = "不正なカーソル")
+  })
+  @GetMapping("/archivedStudentList")
+  public ResponseEntity<List<StudentDetail>> getArchivedStudentList(
+      @RequestParam(required = false) @Min(1) Integer limit,
+      @RequestParam(required = false) String after) {
+    return toPageResponse(service.searchArchivedStudentList(limit, after));
+  }
+
+  /**
+   * 受講生詳細のキャッシュの統計情報を取得します。
+   *
+   * @return ヒット数・ミス数・破棄された件数などの統計情報
+   */
+  @Operation(summary = "受講生詳細キャッシュの統計", description = "受講生詳細のキャッシュの統計情報を取得します。")
+  @GetMapping("/studentCache/stats")
+  public StudentCacheStats getStudentCacheStats() {
+    return service.getStudentCacheStats();
   }
 
   /**
    * 検索条件に合致する受講生詳細を取得します。
+   * limit と after を指定した場合は受講生IDの昇順にページ検索を行い、次ページが存在する場合はカーソルを X-Next-Cursor ヘッダーで返します。
    *
    * @param condition 検索条件
+   * @param limit     1ページあたりの件数
+   * @param after     前ページの検索結果で返されたカーソル
    * @return 検索条件に合致する受講生詳細のリスト
    */
   @Operation(summary = "受講生詳細条件の検索", description = "条件に合致する受講生詳細を検索します。")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "正常に取得"),
+      @ApiResponse(responseCode = "400", description = "不正なカーソル"),
       @ApiResponse(responseCode = "404", description = "受講生が存在しない")
   })
   @PostMapping("/students/search")
-  public List<StudentDetail> searchStudents(@RequestBody @Valid StudentSearchCondition condition) {
-    return service.searchByCondition(condition);
+  public ResponseEntity<List<StudentDetail>> searchStudents(
+      @RequestBody @Valid StudentSearchCondition condition,
+      @RequestParam(required = false) @Min(1) Integer limit,
+      @RequestParam(required = false) String after) {
+    if (Objects.isNull(limit) && Objects.isNull(after)) {
+      return ResponseEntity.ok(service.searchByCondition(condition));
+    }
+    return toPageResponse(service.searchByCondition(condition, limit, after));
+  }
+
+  /**
+   * 検索条件に合致する受講生について、申込状況・コース名・居住地域ごとの件数を取得します。
+   * 検索条件を省略した場合は全受講生を集計します。論理削除済みの受講生は集計しません。
+   *
+   * @param condition 検索条件
+   * @return 申込状況・コース名・居住地域ごとの件数
+   */
+  @Operation(summary = "受講生の集計", description = "条件に合致する受講生の申込状況・コース名・居住地域ごとの件数を取得します。")
+  @PostMapping("/students/facets")
+  public StudentFacets getStudentFacets(
+      @RequestBody(required = false) @Valid StudentSearchCondition condition) {
+    return service.getFacets(condition);
+  }
+
+  /**
+   * 受講生詳細のページ検索結果をレスポンスに変換します。 次ページが存在する場合はカーソルをヘッダーに設定します。
+   *
+   * @param studentPage 受講生詳細のページ検索結果
+   * @return 受講生詳細の1ページ分
+   */
+  private ResponseEntity<List<StudentDetail>> toPageResponse(StudentPage studentPage) {
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+    if (Objects.nonNull(studentPage.getNextCursor())) {
+      builder.header(NEXT_CURSOR_HEADER, studentPage.getNextCursor());
+    }
+    return builder.body(studentPage.getStudentDetailList());
+  }
+
+  /**
+   * ETag を設定し、If-None-Match と一致するかを返します。 一致する場合はレスポンスが 304 になるので、本文を返さずに終了してください。
+   *
+   * @param webRequest リクエスト
+   * @param etag       ETag(null の場合は条件付き GET を行わない)
+   * @return If-None-Match と一致する場合は true
+   */
+  private boolean isNotModified(WebRequest webRequest, String etag) {
+    return Objects.nonNull(etag) && webRequest.checkNotModified(etag);
   }
 
   /**
@@ -139,22 +358,87 @@ public class StudentController {
     return ResponseEntity.ok(responseStudentDetail);
   }
 
+  /**
+   * 受講生詳細の一括登録を行います。
+   * <p>
+   * 受講生詳細のリストを受け取り、入力チェックに掛かったものを除いて一定件数ごとにまとめて登録します。
+   * 一部の受講生詳細が登録できなくても処理は中断せず、1件ごとの登録結果を返します。
+   * </p>
+   *
+   * @param studentDetailList 登録対象の受講生詳細のリスト
+   * @return 1件ごとの登録結果
+   */
+  @Operation(summary = "受講生一括登録", description = "受講生を一括で登録します。")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "登録処理完了(1件ごとの成否を含む)")
+  })
+  @PostMapping("/registerStudents")
+  public ResponseEntity<StudentBulkRegisterResult> registerStudents(
+      @RequestBody List<StudentDetail> studentDetailList) {
+    return ResponseEntity.ok(bulkRegisterService.registerStudentList(studentDetailList));
+  }
+
+  /**
+   * CSV/TSV ファイルから受講生詳細の取り込みを行います。
+   * <p>
+   * リクエストボディを1行ずつ読み込みながら一定件数ごとにまとめて登録するため、ファイル全体をメモリに保持しません。
+   * 1行目はヘッダー行とし、受講コース名は courseNames 列に「;」区切りで指定します。
+   * 入力チェックや登録に失敗した行は読み飛ばし、件数のみを結果に含めます。
+   * </p>
+   *
+   * @param request リクエスト(Content-Type が text/tab-separated-values の場合は TSV、それ以外は CSV として読み込む)
+   * @return 取り込みの結果
+   * @throws IOException リクエストボディの読み込みに失敗した場合
+   */
+  @Operation(summary = "受講生取り込み", description = "CSV/TSV ファイルから受講生を取り込みます。")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "取り込み処理完了(成功・失敗の件数を含む)")
+  })
+  @PostMapping(value = "/importStudents", consumes = {TEXT_CSV_VALUE, TEXT_TSV_VALUE})
+  public ResponseEntity<StudentImportResult> importStudents(HttpServletRequest request)
+      throws IOException {
+    char delimiter = MediaType.parseMediaType(request.getContentType())
+        .isCompatibleWith(MediaType.parseMediaType(TEXT_TSV_VALUE)) ? '\t' : ',';
+    return ResponseEntity.ok(importService.importStudents(request.getInputStream(), delimiter));
+  }
+
+  /**
+   * 論理削除済みの受講生のアーカイブを行います。
+   * <p>
+   * 論理削除済みの受講生を受講生コース情報・申込状況とともに、一定件数ごとにアーカイブ用のテーブルへ移動します。
+   * 定期的なアーカイブを待たずに移動する場合に使用します。
+   * </p>
+   *
+   * @return 移動した行数
+   */
+  @Operation(summary = "受講生アーカイブ", description = "論理削除済みの受講生をアーカイブします。")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "アーカイブ完了(移動した行数を含む)")
+  })
+  @PostMapping("/archiveStudents")
+  public ResponseEntity<StudentArchiveResult> archiveStudents() {
+    return ResponseEntity.ok(archiveService.archiveDeletedStudents());
+  }
+
   /**
    * 受講生詳細の更新を行います。
    * キャンセルフラグの更新もここで行います(論理削除)
+   * 値が変わった行のみを更新し、実際に更新した行数を返します。
    *
    * @param studentDetail 受講生詳細
-   * @return 実行結果
+   * @return 受講生・受講生コース情報・申込状況ごとの更新した行数
    */
   @Operation(summary = "受講生更新", description = "受講生を更新します。")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "更新成功"),
-      @ApiResponse(responseCode = "400", description = "バリデーションエラー")
+      @ApiResponse(responseCode = "400", description = "バリデーションエラー・許可されていない申込状況の変更・受講生に紐づかない受講生コース情報の変更"),
+      @ApiResponse(responseCode = "404", description = "受講生が存在しない"),
+      @ApiResponse(responseCode = "409", description = "取得した後に他の更新によって変更されている")
   })
   @PutMapping("/updateStudent")
-  public ResponseEntity<String> updateStudent(@RequestBody StudentDetail studentDetail) {
-    service.updateStudent(studentDetail);
-    return ResponseEntity.ok("更新処理が成功。");
+  public ResponseEntity<StudentUpdateResult> updateStudent(
+      @RequestBody StudentDetail studentDetail) {
+    return ResponseEntity.ok(service.updateStudent(studentDetail));
   }
 
 }
\ No newline at end of file
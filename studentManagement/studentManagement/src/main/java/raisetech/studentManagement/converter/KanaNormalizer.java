@@ -0,0 +1,60 @@
+package raisetech.studentManagement.converter;
+
+import java.text.Normalizer;
+import java.util.Objects;
+
+/**
+ * カナ名を検索用の表記にそろえる正規化を行うクラスです。
+ * <p>
+ * NFKC 正規化で半角カナ・全角英数字を標準の幅にそろえたあと、ひらがなをカタカナに、長音を表す記号の揺れを「ー」に変換し、空白を取り除きます。
+ * 例えば「ﾔﾏﾀﾞ ﾀﾛｰ」「やまだたろ－」「ヤマダタロー」はいずれも「ヤマダタロー」になります。
+ * </p>
+ */
+public final class KanaNormalizer {
+
+  private static final char LONG_VOWEL_MARK = 'ー';
+
+  /**
+   * 長音として扱う記号です(NFKC 正規化後の文字)。
+   */
+  private static final String LONG_VOWEL_VARIANTS = "-‐‑‒–—―−─━";
+
+  private static final int HIRAGANA_TO_KATAKANA = 'ア' - 'あ';
+
+  private KanaNormalizer() {
+  }
+
+  /**
+   * カナ名を検索用の表記に正規化します。
+   *
+   * @param value カナ名
+   * @return 正規化したカナ名(カナ名が null の場合は null)
+   */
+  public static String normalize(String value) {
+    if (Objects.isNull(value)) {
+      return null;
+    }
+    String nfkc = Normalizer.normalize(value, Normalizer.Form.NFKC);
+    StringBuilder normalized = new StringBuilder(nfkc.length());
+    nfkc.codePoints().forEach(codePoint -> {
+      if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+        return;
+      }
+      if (isHiragana(codePoint)) {
+        normalized.appendCodePoint(codePoint + HIRAGANA_TO_KATAKANA);
+      } else if (LONG_VOWEL_VARIANTS.indexOf(codePoint) >= 0) {
+        normalized.append(LONG_VOWEL_MARK);
+      } else {
+        normalized.appendCodePoint(codePoint);
+      }
+    });
+    return normalized.toString();
+  }
+
+  /**
+   * カタカナに対応するひらがな(「ぁ」〜「ゖ」と踊り字「ゝ」「ゞ」)かを判定します。
+   */
+  private static boolean isHiragana(int codePoint) {
+    return ('ぁ' <= codePoint && codePoint <= 'ゖ') || codePoint == 'ゝ' || codePoint == 'ゞ';
+  }
+}
@@ -1,10 +1,16 @@
 package raisetech.studentManagement.converter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import raisetech.studentManagement.config.StudentManagementProperties;
 import raisetech.studentManagement.data.CourseStatus;
 import raisetech.studentManagement.data.Student;
 import raisetech.studentManagement.data.StudentCourse;
@@ -16,9 +22,22 @@ import raisetech.studentManagement.domain.StudentDetail;
 @Component
 public class StudentConverter {
 
+  private final int parallelThreshold;
+
+  public StudentConverter() {
+    this(new StudentManagementProperties());
+  }
+
+  @Autowired
+  public StudentConverter(StudentManagementProperties properties) {
+    this.parallelThreshold = properties.getConverter().getParallelThreshold();
+  }
+
   /**
    * 受講生に紐づく受講生情報をマッピングする。
-   * 受講生コース情報を受講生に対して複数存在するのでループを回して受講生詳細を情報を組み立てる。
+   * 受講生コース情報は受講生IDごとに、申込状況は受講生コース情報IDから引いた受講生IDごとに一度だけ振り分けておき、
+   * 受講生ごとに振り分け済みのリストを取り出して受講生詳細を組み立てる。
+   * 受講生の件数が並列化の閾値以上の場合は受講生詳細の組み立てを並列で行う。いずれの場合も受講生の並び順は維持する。
    *
    * @param studentList        受講生の一覧
    * @param studentsCourseList 受講生コース情報のリスト
@@ -27,31 +46,93 @@ public class StudentConverter {
    */
   public List<StudentDetail> convertStudentDetails(List<Student> studentList,
       List<StudentCourse> studentsCourseList, List<CourseStatus> courseStatusList) {
-    List<StudentDetail> studentDetailList = new ArrayList<>();
-    for (Student student : studentList) {
-      StudentDetail studentDetail = new StudentDetail();
-      studentDetail.setStudent(student);
+    Map<String, List<StudentCourse>> studentCourseMap = new HashMap<>();
+    Map<String, String> studentIdByCourseId = new HashMap<>();
+    for (StudentCourse studentCourse : studentsCourseList) {
+      studentCourseMap.computeIfAbsent(studentCourse.getStudentId(), key -> new ArrayList<>())
+          .add(studentCourse);
+      studentIdByCourseId.putIfAbsent(studentCourse.getId(), studentCourse.getStudentId());
+    }
+
+    Map<String, List<CourseStatus>> courseStatusMap = new HashMap<>();
+    for (CourseStatus courseStatus : courseStatusList) {
+      if (studentIdByCourseId.containsKey(courseStatus.getStudentCourseId())) {
+        courseStatusMap.computeIfAbsent(
+                studentIdByCourseId.get(courseStatus.getStudentCourseId()), key -> new ArrayList<>())
+            .add(courseStatus);
+      }
+    }
+
+    Function<Student, StudentDetail> toStudentDetail = student -> new StudentDetail(student,
+        new ArrayList<>(studentCourseMap.getOrDefault(student.getId(), List.of())),
+        new ArrayList<>(courseStatusMap.getOrDefault(student.getId(), List.of())));
+
+    Stream<Student> studentStream = studentList.size() >= parallelThreshold
+        ? studentList.parallelStream()
+        : studentList.stream();
+    return studentStream.map(toStudentDetail).collect(Collectors.toList());
+  }
 
-      List<StudentCourse> convertStudentCourseList = studentsCourseList.stream()
-          .filter(studentsCourse -> student.getId().equals(studentsCourse.getStudentId()))
-          .collect(Collectors.toList());
+  /**
+   * 受講生詳細を複製します。 受講生・受講生コース情報・申込状況もそれぞれ複製するので、複製元と複製先で値を共有しません。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 複製した受講生詳細(受講生詳細が null の場合は null)
+   */
+  public StudentDetail copyStudentDetail(StudentDetail studentDetail) {
+    if (Objects.isNull(studentDetail)) {
+      return null;
+    }
+    return new StudentDetail(
+        copyStudent(studentDetail.getStudent()),
+        copyList(studentDetail.getStudentCourseList(), this::copyStudentCourse),
+        copyList(studentDetail.getCourseStatusList(), this::copyCourseStatus));
+  }
 
-      studentDetail.setStudentCourseList(convertStudentCourseList);
+  private Student copyStudent(Student student) {
+    if (Objects.isNull(student)) {
+      return null;
+    }
+    Student copy = new Student();
+    copy.setId(student.getId());
+    copy.setName(student.getName());
+    copy.setKanaName(student.getKanaName());
+    copy.setNickname(student.getNickname());
+    copy.setEmail(student.getEmail());
+    copy.setAddress(student.getAddress());
+    copy.setAge(student.getAge());
+    copy.setGender(student.getGender());
+    copy.setRemark(student.getRemark());
+    copy.setDeleted(student.isDeleted());
+    copy.setVersion(student.getVersion());
+    return copy;
+  }
 
-      Set<String> studentCourseIdList = convertStudentCourseList.stream()
-          .map(StudentCourse::getId)
-          .collect(Collectors.toSet());
+  private StudentCourse copyStudentCourse(StudentCourse studentCourse) {
+    StudentCourse copy = new StudentCourse();
+    copy.setId(studentCourse.getId());
+    copy.setStudentId(studentCourse.getStudentId());
+    copy.setCourseName(studentCourse.getCourseName());
+    copy.setCourseStartAt(studentCourse.getCourseStartAt());
+    copy.setCourseEndAt(studentCourse.getCourseEndAt());
+    copy.setVersion(studentCourse.getVersion());
+    return copy;
+  }
 
-      List<CourseStatus> convertCourseStatusList = courseStatusList.stream()
-          .filter(
-              courseStatus -> studentCourseIdList.contains(
-                  courseStatus.getStudentCourseId()))
-          .collect(Collectors.toList());
-      studentDetail.setCourseStatusList(convertCourseStatusList);
+  private CourseStatus copyCourseStatus(CourseStatus courseStatus) {
+    CourseStatus copy = new CourseStatus();
+    copy.setId(courseStatus.getId());
+    copy.setStudentCourseId(courseStatus.getStudentCourseId());
+    copy.setStatus(courseStatus.getStatus());
+    copy.setVersion(courseStatus.getVersion());
+    return copy;
+  }
 
-      studentDetailList.add(studentDetail);
+  private <T> List<T> copyList(List<T> list, Function<T, T> copy) {
+    if (Objects.isNull(list)) {
+      return null;
     }
-    return studentDetailList;
+    return list.stream().map(copy).collect(Collectors.toCollection(ArrayList::new));
   }
 
 }
@@ -0,0 +1,75 @@
+package raisetech.studentManagement.data;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 申込状況の種類です。 データベースには数値のコードで保存し、画面や API では名称で表します。
+ * 申込状況は 仮申込 → 本申込 → 受講中 → 受講終了 の順にのみ進めることができます。
+ */
+public enum ApplicationStatus {
+
+  TEMPORARY(1, "仮申込"),
+  CONFIRMED(2, "本申込"),
+  IN_PROGRESS(3, "受講中"),
+  COMPLETED(4, "受講終了");
+
+  private final int code;
+
+  private final String label;
+
+  ApplicationStatus(int code, String label) {
+    this.code = code;
+    this.label = label;
+  }
+
+  public int getCode() {
+    return code;
+  }
+
+  @JsonValue
+  public String getLabel() {
+    return label;
+  }
+
+  /**
+   * 指定された申込状況に変更できるかを返します。 同じ申込状況への変更と、1つ次の申込状況への変更のみ許可します。
+   *
+   * @param next 変更後の申込状況
+   * @return 変更できる場合は true
+   */
+  public boolean canTransitionTo(ApplicationStatus next) {
+    return Objects.nonNull(next) && (next == this || next.ordinal() == ordinal() + 1);
+  }
+
+  /**
+   * コードに対応する申込状況を返します。
+   *
+   * @param code コード
+   * @return 申込状況
+   * @throws IllegalArgumentException 対応する申込状況がない場合
+   */
+  public static ApplicationStatus fromCode(int code) {
+    return Arrays.stream(values())
+        .filter(status -> status.code == code)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("不正な申込状況のコードです。(" + code + ")"));
+  }
+
+  /**
+   * 名称に対応する申込状況を返します。
+   *
+   * @param label 名称
+   * @return 申込状況
+   * @throws IllegalArgumentException 対応する申込状況がない場合
+   */
+  @JsonCreator
+  public static ApplicationStatus fromLabel(String label) {
+    return Arrays.stream(values())
+        .filter(status -> status.label.equals(label))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("不正な申込状況です。(" + label + ")"));
+  }
+}
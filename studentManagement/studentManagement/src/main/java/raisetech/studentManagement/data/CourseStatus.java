@@ -1,7 +1,7 @@
 package raisetech.studentManagement.data;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
@@ -24,7 +24,12 @@ public class CourseStatus {
   /**
    * 申込ステータス（仮申込、本申込、受講中、受講終了）。
    */
-  @NotBlank(message = "申し込み状況を入力してください。")
-  private String status;
+  @NotNull(message = "申し込み状況を入力してください。")
+  private ApplicationStatus status;
+
+  /**
+   * 楽観的排他制御に使用するバージョン。 更新のたびに1つ増える。更新時は取得したときの値をそのまま指定する。
+   */
+  private int version;
 
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package raisetech.studentManagement.data;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
+import raisetech.studentManagement.converter.KanaNormalizer;
 
 /**
  * 受講生を表すデータクラスです。
@@ -52,4 +54,19 @@ public class Student {
    * 論理削除フラグ。true の場合は削除済みとして扱う。
    */
   private boolean isDeleted;
+
+  /**
+   * 楽観的排他制御に使用するバージョン。 更新のたびに1つ増える。更新時は取得したときの値をそのまま指定する。
+   */
+  private int version;
+
+  /**
+   * 検索用に正規化したカナ名。 登録・更新時にカナ名から求めて kananame_normalized 列に保存する。
+   *
+   * @return 正規化したカナ名
+   */
+  @JsonIgnore
+  public String getKanaNameNormalized() {
+    return KanaNormalizer.normalize(kanaName);
+  }
 }
@@ -34,4 +34,9 @@ public class StudentCourse {
    * 受講終了予定日。
    */
   private LocalDateTime courseEndAt;
+
+  /**
+   * 楽観的排他制御に使用するバージョン。 更新のたびに1つ増える。更新時は取得したときの値をそのまま指定する。
+   */
+  private int version;
 }
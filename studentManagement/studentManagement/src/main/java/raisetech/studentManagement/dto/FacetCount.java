@@ -0,0 +1,18 @@
+package raisetech.studentManagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 集計項目の値ごとの件数を保持するクラスです。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCount {
+
+  private String value;
+
+  private long count;
+}
@@ -0,0 +1,33 @@
+package raisetech.studentManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 論理削除済みの受講生のアーカイブの結果を保持するクラスです。 各件数はアーカイブ用のテーブルへ移動した行数です。
+ */
+@Schema(description = "受講生のアーカイブ結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentArchiveResult {
+
+  private int studentCount;
+
+  private int studentCourseCount;
+
+  private int courseStatusCount;
+
+  /**
+   * 別のアーカイブの結果の件数を加算します。
+   *
+   * @param other 加算するアーカイブの結果
+   */
+  public void add(StudentArchiveResult other) {
+    studentCount += other.studentCount;
+    studentCourseCount += other.studentCourseCount;
+    courseStatusCount += other.courseStatusCount;
+  }
+}
@@ -0,0 +1,23 @@
+package raisetech.studentManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 受講生詳細の一括登録の結果を保持するクラスです。
+ */
+@Schema(description = "受講生詳細の一括登録結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBulkRegisterResult {
+
+  private int successCount;
+
+  private int failureCount;
+
+  private List<StudentRegisterResult> resultList;
+}
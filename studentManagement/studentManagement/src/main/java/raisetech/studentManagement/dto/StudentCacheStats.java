@@ -0,0 +1,35 @@
+package raisetech.studentManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 受講生詳細のキャッシュの統計情報を保持するクラスです。
+ */
+@Schema(description = "受講生詳細のキャッシュの統計情報")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentCacheStats {
+
+  private long hitCount;
+
+  private long missCount;
+
+  /**
+   * キャッシュから取得できた割合(0.0〜1.0)。
+   */
+  private double hitRate;
+
+  /**
+   * 件数の上限や有効期限によって破棄された件数。
+   */
+  private long evictionCount;
+
+  /**
+   * 現在キャッシュに保持している件数(概算)。
+   */
+  private long size;
+}
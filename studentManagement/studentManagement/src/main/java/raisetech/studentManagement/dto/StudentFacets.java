@@ -0,0 +1,32 @@
+package raisetech.studentManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 受講生の集計結果を保持するクラスです。 各項目は値ごとの件数を件数の多い順に保持します。
+ */
+@Schema(description = "受講生の集計結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentFacets {
+
+  /**
+   * 申込状況ごとの件数。
+   */
+  private Map<String, Long> statusCounts;
+
+  /**
+   * コース名ごとの受講生コース情報の件数。
+   */
+  private Map<String, Long> courseNameCounts;
+
+  /**
+   * 居住地域ごとの受講生の件数。
+   */
+  private Map<String, Long> addressCounts;
+}
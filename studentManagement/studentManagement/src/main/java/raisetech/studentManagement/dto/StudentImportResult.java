@@ -0,0 +1,32 @@
+package raisetech.studentManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 受講生詳細の取り込みの結果を保持するクラスです。
+ */
+@Schema(description = "受講生詳細の取り込み結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportResult {
+
+  /**
+   * 読み込んだ行数(ヘッダー行を除く)。
+   */
+  private long rowCount;
+
+  private long successCount;
+
+  private long failureCount;
+
+  private long elapsedMillis;
+
+  /**
+   * 1秒あたりに処理した行数。
+   */
+  private double rowsPerSecond;
+}
@@ -0,0 +1,23 @@
+package raisetech.studentManagement.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import raisetech.studentManagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細のページ検索結果を保持するクラスです。 次ページが存在する場合は次ページ取得用のカーソルを保持します。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentPage {
+
+  private List<StudentDetail> studentDetailList;
+
+  /**
+   * 次ページ取得用のカーソル。次ページが存在しない場合は null。
+   */
+  private String nextCursor;
+}
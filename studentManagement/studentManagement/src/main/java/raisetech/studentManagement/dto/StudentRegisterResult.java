@@ -0,0 +1,34 @@
+package raisetech.studentManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 受講生詳細の一括登録における1件ごとの登録結果を保持するクラスです。
+ */
+@Schema(description = "受講生詳細の登録結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentRegisterResult {
+
+  /**
+   * リクエスト内での受講生詳細の位置(0始まり)。
+   */
+  private int index;
+
+  private boolean success;
+
+  /**
+   * 登録された受講生のID。登録に失敗した場合は null。
+   */
+  private String studentId;
+
+  /**
+   * 登録に失敗した理由。登録に成功した場合は空。
+   */
+  private List<String> errorList;
+}
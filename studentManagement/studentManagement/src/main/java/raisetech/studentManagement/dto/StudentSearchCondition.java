@@ -1,7 +1,9 @@
 package raisetech.studentManagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
+import raisetech.studentManagement.converter.KanaNormalizer;
 
 /**
  * 受講生条件付き検索の際に使用する条件を保持するクラスです。 各フィールドは検索フォームやクエリパラメータからの入力値として利用され、受講生の絞り込みに使用されます。
@@ -19,4 +21,14 @@ public class StudentSearchCondition {
   private Integer maxAge;
   private String gender;
   private String remark;
+
+  /**
+   * 検索用に正規化したカナ名。 受講生の正規化したカナ名との前方一致で検索する。
+   *
+   * @return 正規化したカナ名
+   */
+  @JsonIgnore
+  public String getKananameNormalized() {
+    return KanaNormalizer.normalize(kananame);
+  }
 }
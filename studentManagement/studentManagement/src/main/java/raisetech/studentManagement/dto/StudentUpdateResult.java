@@ -0,0 +1,31 @@
+package raisetech.studentManagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 受講生詳細の更新の結果を保持するクラスです。 各件数は実際に更新した行数で、値が変わっていない行は含みません。
+ */
+@Schema(description = "受講生詳細の更新結果")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentUpdateResult {
+
+  private int studentCount;
+
+  private int studentCourseCount;
+
+  private int courseStatusCount;
+
+  /**
+   * 更新した行数の合計を返します。
+   *
+   * @return 受講生・受講生コース情報・申込状況の更新した行数の合計
+   */
+  public int getTotalCount() {
+    return studentCount + studentCourseCount + courseStatusCount;
+  }
+}
@@ -0,0 +1,14 @@
+package raisetech.studentManagement.event;
+
+import java.util.List;
+
+/**
+ * 受講生詳細が登録・更新されたことを通知するイベントです。
+ * 登録・更新を行ったトランザクションのコミット後に、キャッシュなどの読み取り用のデータを更新するために使用します。
+ * アーカイブ用のテーブルへ移動した受講生も通知し、読み取り用のデータから取り除きます。
+ *
+ * @param studentIds 登録・更新(もしくはアーカイブ)された受講生のID
+ */
+public record StudentChangedEvent(List<String> studentIds) {
+
+}
@@ -23,4 +23,51 @@ public class ExceptionHandler {
   public ResponseEntity<String> handleTestException(TestException ex) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
   }
+
+  /**
+   * {@link InvalidCursorException} をハンドリングし、HTTP 400 (Bad Request) を返します。
+   *
+   * @param ex 処理中に発生した {@code InvalidCursorException}
+   * @return エラーメッセージを含む HTTP 400 レスポンス
+   */
+  @org.springframework.web.bind.annotation.ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+  }
+
+  /**
+   * {@link InvalidStatusTransitionException} をハンドリングし、HTTP 400 (Bad Request) を返します。
+   *
+   * @param ex 処理中に発生した {@code InvalidStatusTransitionException}
+   * @return エラーメッセージを含む HTTP 400 レスポンス
+   */
+  @org.springframework.web.bind.annotation.ExceptionHandler(InvalidStatusTransitionException.class)
+  public ResponseEntity<String> handleInvalidStatusTransitionException(
+      InvalidStatusTransitionException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+  }
+
+  /**
+   * {@link InvalidStudentCourseException} をハンドリングし、HTTP 400 (Bad Request) を返します。
+   *
+   * @param ex 処理中に発生した {@code InvalidStudentCourseException}
+   * @return エラーメッセージを含む HTTP 400 レスポンス
+   */
+  @org.springframework.web.bind.annotation.ExceptionHandler(InvalidStudentCourseException.class)
+  public ResponseEntity<String> handleInvalidStudentCourseException(
+      InvalidStudentCourseException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+  }
+
+  /**
+   * {@link StudentVersionConflictException} をハンドリングし、HTTP 409 (Conflict) を返します。
+   *
+   * @param ex 処理中に発生した {@code StudentVersionConflictException}
+   * @return エラーメッセージを含む HTTP 409 レスポンス
+   */
+  @org.springframework.web.bind.annotation.ExceptionHandler(StudentVersionConflictException.class)
+  public ResponseEntity<String> handleStudentVersionConflictException(
+      StudentVersionConflictException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package raisetech.studentManagement.exception;
+
+/**
+ * ページングのカーソルが不正な場合にスローされる例外です。
+ */
+public class InvalidCursorException extends RuntimeException {
+
+  /**
+   * 指定されたメッセージで {@code InvalidCursorException} を構築します。
+   *
+   * @param message 例外の詳細メッセージ
+   */
+  public InvalidCursorException(String message) {
+    super(message);
+  }
+}
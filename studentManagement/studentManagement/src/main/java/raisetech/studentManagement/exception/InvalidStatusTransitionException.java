@@ -0,0 +1,16 @@
+package raisetech.studentManagement.exception;
+
+/**
+ * 申込状況を許可されていない申込状況に変更しようとした場合にスローされる例外です。
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+  /**
+   * 指定されたメッセージで {@code InvalidStatusTransitionException} を構築します。
+   *
+   * @param message 例外の詳細メッセージ
+   */
+  public InvalidStatusTransitionException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,16 @@
+package raisetech.studentManagement.exception;
+
+/**
+ * 受講生に紐づかない受講生コース情報を更新しようとした場合にスローされる例外です。
+ */
+public class InvalidStudentCourseException extends RuntimeException {
+
+  /**
+   * 指定されたメッセージで {@code InvalidStudentCourseException} を構築します。
+   *
+   * @param message 例外の詳細メッセージ
+   */
+  public InvalidStudentCourseException(String message) {
+    super(message);
+  }
+}
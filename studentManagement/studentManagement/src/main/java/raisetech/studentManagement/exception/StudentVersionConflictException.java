@@ -0,0 +1,16 @@
+package raisetech.studentManagement.exception;
+
+/**
+ * 更新しようとした受講生詳細が、取得した後に他の更新によって変更されていた場合にスローされる例外です。
+ */
+public class StudentVersionConflictException extends RuntimeException {
+
+  /**
+   * 指定されたメッセージで {@code StudentVersionConflictException} を構築します。
+   *
+   * @param message 例外の詳細メッセージ
+   */
+  public StudentVersionConflictException(String message) {
+    super(message);
+  }
+}
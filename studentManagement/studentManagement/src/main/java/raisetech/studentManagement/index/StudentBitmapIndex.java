@@ -0,0 +1,172 @@
+package raisetech.studentManagement.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+
+/**
+ * 居住地域・性別・年齢で受講生を絞り込むための、メモリ上のビットマップ索引です。
+ * <p>
+ * 居住地域と性別は値ごとに、年齢は1歳ごとに、該当する受講生IDの集合を圧縮ビットマップ(RoaringBitmap)で保持します。
+ * 検索では居住地域と性別のビットマップの積と、年齢の範囲に含まれるビットマップの和の積を求めるので、
+ * 受講生の件数が多くてもデータベースに問い合わせずに絞り込めます。
+ * </p>
+ * <p>
+ * 最初に検索されたときに一度だけ全件を読み込み、以降は受講生が登録・更新されるたびに該当する受講生のみを差し替えます。
+ * データベースでの検索と同じく、論理削除済みの受講生も検索対象に含みます。
+ * </p>
+ */
+@Component
+public class StudentBitmapIndex {
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<String, RoaringBitmap> addressBitmaps = new HashMap<>();
+
+  private final Map<String, RoaringBitmap> genderBitmaps = new HashMap<>();
+
+  private final NavigableMap<Integer, RoaringBitmap> ageBitmaps = new TreeMap<>();
+
+  private volatile boolean built;
+
+  /**
+   * 居住地域・性別・年齢の条件に合致する受講生IDの集合を求めます。
+   * これらの条件が1つも指定されていない場合は絞り込めないので、空を返します。
+   *
+   * @param condition 検索条件
+   * @param loader    索引をまだ作成していない場合の、受講生の全件(論理削除済みを含む)の読み込み処理
+   * @return 条件に合致する受講生IDの集合(絞り込めない場合は空)
+   */
+  public Optional<RoaringBitmap> filter(StudentSearchCondition condition,
+      Supplier<List<Student>> loader) {
+    boolean hasAddress = StringUtils.isNotEmpty(condition.getAddress());
+    boolean hasGender = StringUtils.isNotEmpty(condition.getGender());
+    boolean hasAge = Objects.nonNull(condition.getMinAge()) || Objects.nonNull(condition.getMaxAge());
+    if (!hasAddress && !hasGender && !hasAge) {
+      return Optional.empty();
+    }
+    if (!built) {
+      build(loader);
+    }
+
+    lock.readLock().lock();
+    try {
+      RoaringBitmap result = null;
+      if (hasAddress) {
+        result = and(result, addressBitmaps.get(condition.getAddress()));
+      }
+      if (hasGender) {
+        result = and(result, genderBitmaps.get(condition.getGender()));
+      }
+      if (hasAge) {
+        result = and(result, ageRange(condition.getMinAge(), condition.getMaxAge()));
+      }
+      return Optional.of(result);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 登録・更新された受講生を読み込み直して、索引を差し替えます。
+   * まだ索引を作成していない場合は、次に検索されたときに最新の全件を読み込むので何もしません。
+   * 索引を作成している途中の場合は、作成が終わるのを待ってから差し替えます。
+   *
+   * @param studentIds 登録・更新された受講生のID
+   * @param loader     受講生IDの一覧に該当する受講生(論理削除済みを含む)の読み込み処理
+   */
+  public void patch(Collection<String> studentIds,
+      Function<Collection<String>, List<Student>> loader) {
+    if (studentIds.isEmpty()) {
+      return;
+    }
+    RoaringBitmap changed = new RoaringBitmap();
+    studentIds.forEach(studentId -> changed.add(Integer.parseInt(studentId)));
+
+    lock.writeLock().lock();
+    try {
+      if (!built) {
+        return;
+      }
+      remove(addressBitmaps, changed);
+      remove(genderBitmaps, changed);
+      remove(ageBitmaps, changed);
+      loader.apply(studentIds).forEach(this::add);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void build(Supplier<List<Student>> loader) {
+    lock.writeLock().lock();
+    try {
+      if (built) {
+        return;
+      }
+      loader.get().forEach(this::add);
+      addressBitmaps.values().forEach(RoaringBitmap::runOptimize);
+      genderBitmaps.values().forEach(RoaringBitmap::runOptimize);
+      ageBitmaps.values().forEach(RoaringBitmap::runOptimize);
+      built = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void add(Student student) {
+    int id = Integer.parseInt(student.getId());
+    addressBitmaps.computeIfAbsent(StringUtils.defaultString(student.getAddress()),
+        key -> new RoaringBitmap()).add(id);
+    genderBitmaps.computeIfAbsent(StringUtils.defaultString(student.getGender()),
+        key -> new RoaringBitmap()).add(id);
+    ageBitmaps.computeIfAbsent(student.getAge(), key -> new RoaringBitmap()).add(id);
+  }
+
+  /**
+   * 値ごとのビットマップから受講生IDを取り除きます。 空になったビットマップは値ごと取り除きます。
+   */
+  private <K> void remove(Map<K, RoaringBitmap> bitmaps, RoaringBitmap ids) {
+    bitmaps.values().forEach(bitmap -> bitmap.andNot(ids));
+    bitmaps.values().removeIf(RoaringBitmap::isEmpty);
+  }
+
+  /**
+   * 年齢の範囲に含まれる1歳ごとのビットマップの和を求めます。
+   */
+  private RoaringBitmap ageRange(Integer minAge, Integer maxAge) {
+    if (Objects.nonNull(minAge) && Objects.nonNull(maxAge) && minAge > maxAge) {
+      return new RoaringBitmap();
+    }
+    NavigableMap<Integer, RoaringBitmap> range = ageBitmaps;
+    if (Objects.nonNull(minAge)) {
+      range = range.tailMap(minAge, true);
+    }
+    if (Objects.nonNull(maxAge)) {
+      range = range.headMap(maxAge, true);
+    }
+    return RoaringBitmap.or(range.values().iterator());
+  }
+
+  /**
+   * それまでに求めた集合とビットマップの積を、元のビットマップを変更せずに求めます。
+   */
+  private RoaringBitmap and(RoaringBitmap result, RoaringBitmap bitmap) {
+    if (Objects.isNull(bitmap)) {
+      return new RoaringBitmap();
+    }
+    return Objects.isNull(result) ? bitmap.clone() : RoaringBitmap.and(result, bitmap);
+  }
+}
@@ -0,0 +1,304 @@
+package raisetech.studentManagement.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+
+/**
+ * 受講生の部分一致検索を行うための、メモリ上の N-gram 転置索引です。
+ * <p>
+ * 名前・カナ名・ニックネーム・メールアドレス・備考の各項目について、1〜3文字の N-gram ごとに受講生IDの一覧(ポスティングリスト)を保持します。
+ * 検索では検索語の N-gram のポスティングリストを件数の少ない順に突き合わせて候補を絞り込み、候補のみを実際の値と照合します。
+ * そのため検索にかかる時間は受講生の総数ではなく、候補の件数に比例します。
+ * </p>
+ * <p>
+ * 最初に検索されたときに一度だけ全件を読み込み、以降は受講生が登録・更新されるたびに該当する受講生のみを差し替えます。
+ * 英字の大文字・小文字は区別しません。 データベースでの検索と同じく、論理削除済みの受講生も検索対象に含みます。
+ * カナ名は正規化したカナ名の前方一致で検索します。
+ * </p>
+ */
+@Component
+public class StudentSearchIndex {
+
+  /**
+   * 索引に登録する N-gram の最大の文字数です。 これより長い検索語はこの文字数の N-gram に分割して突き合わせます。
+   */
+  static final int MAX_GRAM_SIZE = 3;
+
+  private static final Comparator<Student> BY_STUDENT_ID =
+      Comparator.comparingLong(student -> Long.parseLong(student.getId()));
+
+  /**
+   * 部分一致検索の対象となる項目です。
+   */
+  private enum Field {
+    NAME(Student::getName, StudentSearchCondition::getName, false),
+    KANA_NAME(Student::getKanaNameNormalized, StudentSearchCondition::getKananameNormalized, true),
+    NICKNAME(Student::getNickname, StudentSearchCondition::getNickname, false),
+    EMAIL(Student::getEmail, StudentSearchCondition::getEmail, false),
+    REMARK(Student::getRemark, StudentSearchCondition::getRemark, false);
+
+    private final Function<Student, String> value;
+    private final Function<StudentSearchCondition, String> keyword;
+
+    /**
+     * true の場合は部分一致ではなく前方一致で検索します。
+     */
+    private final boolean prefix;
+
+    Field(Function<Student, String> value, Function<StudentSearchCondition, String> keyword,
+        boolean prefix) {
+      this.value = value;
+      this.keyword = keyword;
+      this.prefix = prefix;
+    }
+
+    private boolean matches(String value, String keyword) {
+      return prefix ? value.startsWith(keyword) : value.contains(keyword);
+    }
+  }
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final NavigableMap<Long, Student> students = new TreeMap<>();
+
+  private final Map<Field, Map<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+
+  private volatile boolean built;
+
+  public StudentSearchIndex() {
+    for (Field field : Field.values()) {
+      postings.put(field, new HashMap<>());
+    }
+  }
+
+  /**
+   * 検索条件に合致する受講生を索引から検索します。
+   * 部分一致検索の項目が1つも指定されていない場合は索引では絞り込めないので、検索を行わずに空を返します。
+   *
+   * @param condition 検索条件
+   * @param filter    あらかじめ絞り込んだ受講生IDの集合(絞り込んでいない場合は null)
+   * @param loader    索引をまだ作成していない場合の、受講生の全件(論理削除済みを含む)の読み込み処理
+   * @return 検索条件に合致する受講生の受講生IDの昇順の一覧(索引で検索できない場合は空)
+   */
+  public Optional<List<Student>> search(StudentSearchCondition condition, RoaringBitmap filter,
+      Supplier<List<Student>> loader) {
+    Map<Field, String> keywords = keywords(condition);
+    if (keywords.isEmpty()) {
+      return Optional.empty();
+    }
+    if (!built) {
+      build(loader);
+    }
+
+    lock.readLock().lock();
+    try {
+      Set<Long> candidates = null;
+      for (Map.Entry<Field, String> keyword : keywords.entrySet()) {
+        candidates = intersect(keyword.getKey(), keyword.getValue(), candidates, filter);
+        if (candidates.isEmpty()) {
+          return Optional.of(List.of());
+        }
+      }
+      return Optional.of(candidates.stream()
+          .map(students::get)
+          .filter(student -> matches(student, condition, keywords))
+          .sorted(BY_STUDENT_ID)
+          .toList());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 登録・更新された受講生を読み込み直して、索引を差し替えます。
+   * まだ索引を作成していない場合は、次に検索されたときに最新の全件を読み込むので何もしません。
+   * 索引を作成している途中の場合は、作成が終わるのを待ってから差し替えます。
+   *
+   * @param studentIds 登録・更新された受講生のID
+   * @param loader     受講生IDの一覧に該当する受講生(論理削除済みを含む)の読み込み処理
+   */
+  public void patch(Collection<String> studentIds,
+      Function<Collection<String>, List<Student>> loader) {
+    if (studentIds.isEmpty()) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (!built) {
+        return;
+      }
+      studentIds.forEach(studentId -> remove(Long.valueOf(studentId)));
+      loader.apply(studentIds).forEach(this::add);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void build(Supplier<List<Student>> loader) {
+    lock.writeLock().lock();
+    try {
+      if (built) {
+        return;
+      }
+      loader.get().forEach(this::add);
+      built = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void add(Student student) {
+    Long id = Long.valueOf(student.getId());
+    students.put(id, student);
+    for (Field field : Field.values()) {
+      Map<String, Set<Long>> fieldPostings = postings.get(field);
+      for (String gram : indexGrams(field.value.apply(student))) {
+        fieldPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+      }
+    }
+  }
+
+  private void remove(Long id) {
+    Student student = students.remove(id);
+    if (Objects.isNull(student)) {
+      return;
+    }
+    for (Field field : Field.values()) {
+      Map<String, Set<Long>> fieldPostings = postings.get(field);
+      for (String gram : indexGrams(field.value.apply(student))) {
+        Set<Long> posting = fieldPostings.get(gram);
+        if (Objects.nonNull(posting)) {
+          posting.remove(id);
+          if (posting.isEmpty()) {
+            fieldPostings.remove(gram);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * 検索語の N-gram のポスティングリストと、それまでに絞り込んだ候補を件数の少ない順に突き合わせます。
+   *
+   * @param field      検索する項目
+   * @param keyword    検索語(正規化済み)
+   * @param candidates それまでに絞り込んだ候補(最初の項目の場合は null)
+   * @param filter     あらかじめ絞り込んだ受講生IDの集合(絞り込んでいない場合は null)
+   * @return 絞り込んだ候補
+   */
+  private Set<Long> intersect(Field field, String keyword, Set<Long> candidates,
+      RoaringBitmap filter) {
+    Map<String, Set<Long>> fieldPostings = postings.get(field);
+    List<Set<Long>> sets = new ArrayList<>();
+    if (Objects.nonNull(candidates)) {
+      sets.add(candidates);
+    }
+    for (String gram : grams(keyword, Math.min(MAX_GRAM_SIZE, codePointLength(keyword)))) {
+      Set<Long> posting = fieldPostings.get(gram);
+      if (Objects.isNull(posting)) {
+        return Set.of();
+      }
+      sets.add(posting);
+    }
+    sets.sort(Comparator.comparingInt(Set::size));
+
+    Set<Long> result = new HashSet<>();
+    for (Long id : sets.getFirst()) {
+      if ((Objects.isNull(filter) || filter.contains(id.intValue()))
+          && sets.stream().skip(1).allMatch(set -> set.contains(id))) {
+        result.add(id);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 候補の受講生が検索条件に合致するかを確認します。
+   * N-gram が揃っていても連続していない場合があるので、部分一致の項目も実際の値と照合します。
+   */
+  private boolean matches(Student student, StudentSearchCondition condition,
+      Map<Field, String> keywords) {
+    for (Map.Entry<Field, String> keyword : keywords.entrySet()) {
+      Field field = keyword.getKey();
+      if (!field.matches(normalize(field.value.apply(student)), keyword.getValue())) {
+        return false;
+      }
+    }
+    if (StringUtils.isNotEmpty(condition.getAddress())
+        && !condition.getAddress().equals(student.getAddress())) {
+      return false;
+    }
+    if (StringUtils.isNotEmpty(condition.getGender())
+        && !condition.getGender().equals(student.getGender())) {
+      return false;
+    }
+    if (Objects.nonNull(condition.getMinAge()) && student.getAge() < condition.getMinAge()) {
+      return false;
+    }
+    return Objects.isNull(condition.getMaxAge()) || student.getAge() <= condition.getMaxAge();
+  }
+
+  private Map<Field, String> keywords(StudentSearchCondition condition) {
+    Map<Field, String> keywords = new EnumMap<>(Field.class);
+    for (Field field : Field.values()) {
+      String keyword = field.keyword.apply(condition);
+      if (StringUtils.isNotEmpty(keyword)) {
+        keywords.put(field, normalize(keyword));
+      }
+    }
+    return keywords;
+  }
+
+  /**
+   * 値を索引に登録する 1〜{@value #MAX_GRAM_SIZE} 文字の N-gram に分割します。
+   */
+  private Set<String> indexGrams(String value) {
+    String normalized = normalize(value);
+    Set<String> grams = new HashSet<>();
+    for (int size = 1; size <= MAX_GRAM_SIZE; size++) {
+      grams.addAll(grams(normalized, size));
+    }
+    return grams;
+  }
+
+  /**
+   * 文字列を指定した文字数の N-gram に分割します。 サロゲートペアは1文字として扱います。
+   */
+  private Set<String> grams(String value, int size) {
+    int[] codePoints = value.codePoints().toArray();
+    Set<String> grams = new LinkedHashSet<>();
+    for (int from = 0; from + size <= codePoints.length; from++) {
+      grams.add(new String(codePoints, from, size));
+    }
+    return grams;
+  }
+
+  private int codePointLength(String value) {
+    return value.codePointCount(0, value.length());
+  }
+
+  private String normalize(String value) {
+    return StringUtils.defaultString(value).toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,53 @@
+package raisetech.studentManagement.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import raisetech.studentManagement.config.StudentManagementProperties;
+
+/**
+ * リクエストごとに実行されたステートメントを数え、同じステートメントが閾値を超えて実行された場合に N+1 の疑いとして警告するフィルターです。
+ * ステートメントは {@link StatementMonitorInterceptor} が数えます。
+ * 一定件数ごとにまとめて登録する一括登録・取り込みなど、設定で除外したパスは警告しません。
+ */
+@Slf4j
+@Component
+public class StatementCountFilter extends OncePerRequestFilter {
+
+  private final StudentManagementProperties.StatementMonitor properties;
+
+  @Autowired
+  public StatementCountFilter(StudentManagementProperties properties) {
+    this.properties = properties.getStatementMonitor();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled()
+        || properties.getIgnoredPaths().contains(request.getServletPath());
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    StatementCounter statementCounter = StatementCounter.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      StatementCounter.clear();
+      Map<String, Integer> repeated = statementCounter.exceeding(properties.getRepeatThreshold());
+      if (!repeated.isEmpty()) {
+        log.warn("N+1 の疑い: {} {} で同じステートメントが {} 回を超えて実行されました。 {} (合計 {} 回)",
+            request.getMethod(), request.getRequestURI(), properties.getRepeatThreshold(),
+            repeated, statementCounter.total());
+      }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package raisetech.studentManagement.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 1つのリクエストで実行されたステートメントの回数を、ステートメントIDごとに数えるクラスです。
+ * 数える対象は {@link #start()} から {@link #clear()} までの間に、同じスレッドとそこから生成されたスレッドで実行されたステートメントです。
+ * 並行検索の仮想スレッドはリクエストのスレッドから生成されるので、そこで実行されたステートメントも同じリクエストとして数えます。
+ */
+public class StatementCounter {
+
+  private static final InheritableThreadLocal<StatementCounter> CURRENT =
+      new InheritableThreadLocal<>();
+
+  private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+  /**
+   * 現在のスレッドで新しく数え始めます。
+   *
+   * @return 数えた回数を保持するインスタンス
+   */
+  public static StatementCounter start() {
+    StatementCounter statementCounter = new StatementCounter();
+    CURRENT.set(statementCounter);
+    return statementCounter;
+  }
+
+  /**
+   * 現在のスレッドで数えるのをやめます。
+   */
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * 現在のスレッドでステートメントが実行されたことを記録します。 数えていない場合は何もしません。
+   *
+   * @param statementId ステートメントID
+   */
+  public static void increment(String statementId) {
+    StatementCounter statementCounter = CURRENT.get();
+    if (Objects.nonNull(statementCounter)) {
+      statementCounter.counts.computeIfAbsent(statementId, key -> new AtomicInteger())
+          .incrementAndGet();
+    }
+  }
+
+  /**
+   * 実行された回数が閾値を超えたステートメントを取得します。
+   *
+   * @param threshold 閾値
+   * @return ステートメントIDと実行された回数
+   */
+  public Map<String, Integer> exceeding(int threshold) {
+    return counts.entrySet().stream()
+        .filter(entry -> entry.getValue().get() > threshold)
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+  }
+
+  /**
+   * 実行されたステートメントの合計回数を取得します。
+   *
+   * @return 合計回数
+   */
+  public int total() {
+    return counts.values().stream().mapToInt(AtomicInteger::get).sum();
+  }
+}
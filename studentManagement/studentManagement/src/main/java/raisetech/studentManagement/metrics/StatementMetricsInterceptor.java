@@ -0,0 +1,106 @@
+package raisetech.studentManagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Locale;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * マッパーの各ステートメントの実行時間・件数・エラー数を計測する MyBatis のインターセプターです。
+ * タグには SQL ではなくステートメントID(例: raisetech.studentManagement.repository.StudentRepository.searchStudent)を使用するので、
+ * タグの種類はマッパーのメソッドの数までに収まります。
+ * <ul>
+ *   <li>{@code student.repository.statement}: 実行時間(タグ: statement, command, outcome)</li>
+ *   <li>{@code student.repository.rows}: 検索した件数、もしくは登録・更新した件数(タグ: statement, command)</li>
+ *   <li>{@code student.repository.errors}: 例外が発生した回数(タグ: statement, command, exception)</li>
+ * </ul>
+ * カーソルで取得する検索は、カーソルを開くまでの時間のみを計測し、件数は記録しません。
+ * バッチ実行のように件数が確定しない更新(負の値が返る場合)も件数は記録しません。
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+            CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public StatementMetricsInterceptor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    String statement = mappedStatement.getId();
+    String command = mappedStatement.getSqlCommandType().name().toLowerCase(Locale.ROOT);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    try {
+      Object result = invocation.proceed();
+      recordRows(statement, command, result);
+      return result;
+    } catch (Throwable e) {
+      outcome = "error";
+      Counter.builder("student.repository.errors")
+          .description("ステートメントの実行で例外が発生した回数")
+          .tag("statement", statement)
+          .tag("command", command)
+          .tag("exception", ExceptionUtil.unwrapThrowable(e).getClass().getSimpleName())
+          .register(meterRegistry)
+          .increment();
+      throw e;
+    } finally {
+      sample.stop(Timer.builder("student.repository.statement")
+          .description("ステートメントの実行時間")
+          .tag("statement", statement)
+          .tag("command", command)
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+
+  private void recordRows(String statement, String command, Object result) {
+    long rows;
+    if (result instanceof Collection<?> collection) {
+      rows = collection.size();
+    } else if (result instanceof Integer count && count >= 0) {
+      rows = count;
+    } else {
+      return;
+    }
+    DistributionSummary.builder("student.repository.rows")
+        .description("検索した件数、もしくは登録・更新した件数")
+        .baseUnit("rows")
+        .tag("statement", statement)
+        .tag("command", command)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(rows);
+  }
+}
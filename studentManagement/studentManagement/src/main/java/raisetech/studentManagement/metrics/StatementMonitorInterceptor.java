@@ -0,0 +1,142 @@
+package raisetech.studentManagement.metrics;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import raisetech.studentManagement.config.StudentManagementProperties;
+
+/**
+ * マッパーのステートメントを監視する MyBatis のインターセプターです。
+ * 実行時間が閾値を超えたステートメントを、パラメーターと件数とともにログに出力します。
+ * パラメーターは、設定で指定したもの(IDやバージョンなど)以外を伏せ字にするので、個人情報はログに出力しません。
+ * また、実行したステートメントをリクエストごとに数えます({@link StatementCounter}、{@link StatementCountFilter})。
+ */
+@Slf4j
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+            CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class StatementMonitorInterceptor implements Interceptor {
+
+  static final String MASK = "****";
+
+  private final StudentManagementProperties.StatementMonitor properties;
+
+  private final Set<String> unmaskedParameters;
+
+  @Autowired
+  public StatementMonitorInterceptor(StudentManagementProperties properties) {
+    this.properties = properties.getStatementMonitor();
+    this.unmaskedParameters = this.properties.getUnmaskedParameters().stream()
+        .map(parameter -> parameter.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    if (!properties.isEnabled()) {
+      return invocation.proceed();
+    }
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    StatementCounter.increment(mappedStatement.getId());
+
+    long start = System.nanoTime();
+    Object result = invocation.proceed();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    if (elapsedMillis > properties.getSlowThreshold().toMillis()) {
+      log.warn("遅いステートメント: {} {}ms 件数={} パラメーター={}", mappedStatement.getId(),
+          elapsedMillis, rowCount(result), maskedParameters(invocation, mappedStatement));
+    }
+    return result;
+  }
+
+  private String rowCount(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return String.valueOf(collection.size());
+    }
+    if (result instanceof Integer count && count >= 0) {
+      return String.valueOf(count);
+    }
+    return "-";
+  }
+
+  /**
+   * ステートメントに渡したパラメーターを、設定で指定したもの以外は伏せ字にして取得します。
+   * 値の取り出し方は MyBatis の DefaultParameterHandler と同じです。
+   */
+  Map<String, Object> maskedParameters(Invocation invocation, MappedStatement mappedStatement) {
+    Object[] args = invocation.getArgs();
+    Object parameterObject = args[1];
+    BoundSql boundSql = args.length == 6
+        ? (BoundSql) args[5]
+        : mappedStatement.getBoundSql(parameterObject);
+    Configuration configuration = mappedStatement.getConfiguration();
+    List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    int limit = Math.min(parameterMappings.size(), properties.getMaxLoggedParameters());
+    for (ParameterMapping parameterMapping : parameterMappings.subList(0, limit)) {
+      String property = parameterMapping.getProperty();
+      if (!unmaskedParameters.contains(baseName(property))) {
+        parameters.put(property, MASK);
+        continue;
+      }
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (Objects.isNull(parameterObject)) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry()
+          .hasTypeHandler(parameterObject.getClass())) {
+        value = parameterObject;
+      } else {
+        value = configuration.newMetaObject(parameterObject).getValue(property);
+      }
+      parameters.put(property, value);
+    }
+    if (parameterMappings.size() > limit) {
+      parameters.put("...", "他 " + (parameterMappings.size() - limit) + " 件");
+    }
+    return parameters;
+  }
+
+  /**
+   * パラメーターのプロパティ名から、比較に使う名前を取り出します。
+   * 「condition.name」は「name」、foreach の要素の「__frch_student_0.name」は「name」、「__frch_id_0」は「id」になります。
+   */
+  static String baseName(String property) {
+    String name = property.substring(property.lastIndexOf('.') + 1);
+    if (name.startsWith("__frch_")) {
+      name = name.substring("__frch_".length(), name.lastIndexOf('_'));
+    }
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
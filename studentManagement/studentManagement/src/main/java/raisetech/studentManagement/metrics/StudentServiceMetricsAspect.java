@@ -0,0 +1,99 @@
+package raisetech.studentManagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import raisetech.studentManagement.dto.StudentPage;
+import raisetech.studentManagement.dto.StudentUpdateResult;
+
+/**
+ * {@link raisetech.studentManagement.service.StudentService} の public メソッドの実行時間・件数・エラー数を計測するアスペクトです。
+ * オーバーロードされたメソッドを区別するため、タグにはメソッド名と引数の型(例: searchStudentList(Integer,String))を使用します。
+ * <ul>
+ *   <li>{@code student.service.method}: 実行時間(タグ: method, outcome)</li>
+ *   <li>{@code student.service.rows}: 返した受講生詳細の件数、もしくは更新した行数(タグ: method)</li>
+ *   <li>{@code student.service.errors}: 例外が発生した回数(タグ: method, exception)</li>
+ * </ul>
+ * サービス内部からの呼び出しはプロキシを経由しないので計測しません。
+ */
+@Aspect
+@Component
+public class StudentServiceMetricsAspect {
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<Method, String> methodTags = new ConcurrentHashMap<>();
+
+  @Autowired
+  public StudentServiceMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(public * raisetech.studentManagement.service.StudentService.*(..))")
+  public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+    String method = methodTags.computeIfAbsent(
+        ((MethodSignature) joinPoint.getSignature()).getMethod(), this::toMethodTag);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "success";
+    try {
+      Object result = joinPoint.proceed();
+      recordRows(method, result);
+      return result;
+    } catch (Throwable e) {
+      outcome = "error";
+      Counter.builder("student.service.errors")
+          .description("サービスのメソッドで例外が発生した回数")
+          .tag("method", method)
+          .tag("exception", e.getClass().getSimpleName())
+          .register(meterRegistry)
+          .increment();
+      throw e;
+    } finally {
+      sample.stop(Timer.builder("student.service.method")
+          .description("サービスのメソッドの実行時間")
+          .tag("method", method)
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+
+  private String toMethodTag(Method method) {
+    return Arrays.stream(method.getParameterTypes())
+        .map(Class::getSimpleName)
+        .collect(Collectors.joining(",", method.getName() + "(", ")"));
+  }
+
+  private void recordRows(String method, Object result) {
+    long rows;
+    if (result instanceof Collection<?> collection) {
+      rows = collection.size();
+    } else if (result instanceof StudentPage studentPage) {
+      rows = studentPage.getStudentDetailList().size();
+    } else if (result instanceof StudentUpdateResult studentUpdateResult) {
+      rows = studentUpdateResult.getTotalCount();
+    } else {
+      return;
+    }
+    DistributionSummary.builder("student.service.rows")
+        .description("返した受講生詳細の件数、もしくは更新した行数")
+        .baseUnit("rows")
+        .tag("method", method)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(rows);
+  }
+}
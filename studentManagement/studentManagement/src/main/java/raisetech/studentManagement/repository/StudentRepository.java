@@ -1,11 +1,15 @@
 package raisetech.studentManagement.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import raisetech.studentManagement.data.CourseStatus;
 import raisetech.studentManagement.data.Student;
 import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.FacetCount;
 import raisetech.studentManagement.dto.StudentSearchCondition;
 
 /**
@@ -21,6 +25,78 @@ public interface StudentRepository {
    */
   List<Student> search();
 
+  /**
+   * 受講生IDの一覧に該当する受講生を検索します。 論理削除済みの受講生は含みません。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 受講生IDの一覧に該当する受講生
+   */
+  List<Student> searchStudentByIds(Collection<String> studentIds);
+
+  /**
+   * 論理削除済みの受講生を含めて、受講生の全件検索を受講生IDの昇順に行います。
+   *
+   * @return 受講生一覧(論理削除済みを含む全件)
+   */
+  List<Student> searchAllIncludingDeleted();
+
+  /**
+   * 受講生IDの一覧に該当する受講生を、論理削除済みの受講生を含めて検索します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 受講生IDの一覧に該当する受講生
+   */
+  List<Student> searchStudentByIdsIncludingDeleted(Collection<String> studentIds);
+
+  /**
+   * 正規化したカナ名が未設定の受講生を、受講生IDの昇順に指定した受講生IDより後ろから検索します。
+   * 取得するのは受講生IDとカナ名のみです。
+   *
+   * @param afterId 前回取得した最後の受講生ID(最初の場合は null)
+   * @param limit   取得件数
+   * @return 正規化したカナ名が未設定の受講生
+   */
+  List<Student> searchKanaNameNormalizedMissing(Long afterId, int limit);
+
+  /**
+   * 受講生の正規化したカナ名を、カナ名から求めた値に更新します。
+   *
+   * @param student 受講生
+   */
+  void updateKanaNameNormalized(Student student);
+
+  /**
+   * 受講生のページ検索を行います。 受講生IDの昇順に、指定した受講生IDより後ろの受講生を取得します。
+   *
+   * @param afterId 前ページ最後の受講生ID(先頭ページの場合は null)
+   * @param limit   取得件数
+   * @return 受講生一覧(1ページ分)
+   */
+  List<Student> searchPage(Long afterId, int limit);
+
+  /**
+   * 受講生の全件検索を受講生IDの昇順にカーソルで行います。 受講生は読み進めた分だけ逐次取得されます。
+   * カーソルはトランザクション内で使用し、使用後にクローズする必要があります。
+   *
+   * @return 受講生一覧(全件)のカーソル
+   */
+  Cursor<Student> searchCursor();
+
+  /**
+   * 受講生詳細の全件検索を、受講生・受講生コース情報・申込状況を結合した1回のクエリで行います。
+   *
+   * @return 受講生詳細一覧(全件)
+   */
+  List<StudentDetail> searchStudentDetailList();
+
+  /**
+   * 受講生詳細の検索を、受講生・受講生コース情報・申込状況を結合した1回のクエリで行います。
+   *
+   * @param id 受講生ID
+   * @return 受講生詳細(受講生が存在しない場合は null)
+   */
+  StudentDetail searchStudentDetail(String id);
+
   /**
    * 受講生の検索を行います。
    *
@@ -59,6 +135,48 @@ public interface StudentRepository {
    */
   List<Student> searchByCondition(StudentSearchCondition condition);
 
+  /**
+   * 指定された条件に合致する受講生詳細の検索を、受講生・受講生コース情報・申込状況を結合した1回のクエリで行います。
+   *
+   * @param condition 検索条件
+   * @return 条件に合致する受講生詳細
+   */
+  List<StudentDetail> searchStudentDetailByCondition(StudentSearchCondition condition);
+
+  /**
+   * 指定された条件に合致する受講生のページ検索を行います。 受講生IDの昇順に、指定した受講生IDより後ろの受講生を取得します。
+   *
+   * @param condition 検索条件
+   * @param afterId   前ページ最後の受講生ID(先頭ページの場合は null)
+   * @param limit     取得件数
+   * @return 条件に合致する受講生(1ページ分)
+   */
+  List<Student> searchByConditionPage(StudentSearchCondition condition, Long afterId, int limit);
+
+  /**
+   * 指定された条件に合致する受講生(論理削除済みを除く)の申込状況ごとの件数を集計します。
+   *
+   * @param condition 検索条件
+   * @return 申込状況ごとの件数(件数の多い順)
+   */
+  List<FacetCount> countByStatus(StudentSearchCondition condition);
+
+  /**
+   * 指定された条件に合致する受講生(論理削除済みを除く)の受講生コース情報をコース名ごとに集計します。
+   *
+   * @param condition 検索条件
+   * @return コース名ごとの件数(件数の多い順)
+   */
+  List<FacetCount> countByCourseName(StudentSearchCondition condition);
+
+  /**
+   * 指定された条件に合致する受講生(論理削除済みを除く)を居住地域ごとに集計します。 居住地域が未設定の受講生は空文字で集計します。
+   *
+   * @param condition 検索条件
+   * @return 居住地域ごとの件数(件数の多い順)
+   */
+  List<FacetCount> countByAddress(StudentSearchCondition condition);
+
   /**
    * 受講生IDに紐づく受講生コース情報を検索します。
    *
@@ -67,6 +185,23 @@ public interface StudentRepository {
    */
   List<StudentCourse> searchStudentCourse(String studentid);
 
+  /**
+   * 受講生IDの一覧に紐づく受講生コース情報を検索します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 受講生IDの一覧に紐づく受講生コース情報
+   */
+  List<StudentCourse> searchStudentCourseByStudentIds(Collection<String> studentIds);
+
+  /**
+   * 受講生IDの一覧に紐づく申込状況を、受講生コース情報を介して検索します。
+   * 受講生コース情報の検索結果を待たずに検索できるので、受講生コース情報の検索と並行して実行できます。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 受講生IDの一覧に紐づく申込状況
+   */
+  List<CourseStatus> searchCourseStatusByStudentIds(Collection<String> studentIds);
+
   /**
    * 受講生を新規登録します。 IDに関しては自動採番を行う。
    *
@@ -74,6 +209,13 @@ public interface StudentRepository {
    */
   void registerStudent(Student student);
 
+  /**
+   * 受講生を複数行の INSERT でまとめて新規登録します。 IDに関しては自動採番を行い、採番したIDを各受講生に設定する。
+   *
+   * @param studentList 受講生のリスト(1件以上)
+   */
+  void registerStudentList(List<Student> studentList);
+
   /**
    * 受講生コース情報を新規登録します。
    * IDに関しては自動採番を行う。
@@ -82,6 +224,14 @@ public interface StudentRepository {
    */
   void registerStudentCourse(StudentCourse studentCourse);
 
+  /**
+   * 受講生コース情報を複数行の INSERT でまとめて新規登録します。
+   * IDに関しては自動採番を行い、採番したIDを各受講生コース情報に設定する。
+   *
+   * @param studentCourseList 受講生コース情報のリスト(1件以上)
+   */
+  void registerStudentCourseList(List<StudentCourse> studentCourseList);
+
   /**
    * 申込状況を新規登録します。 IDに関しては自動採番を行う。
    *
@@ -90,24 +240,135 @@ public interface StudentRepository {
   void registerCourseStatus(CourseStatus courseStatus);
 
   /**
-   * 受講生を更新します。
+   * 申込状況を複数行の INSERT でまとめて新規登録します。 IDに関しては自動採番を行い、採番したIDを各申込状況に設定する。
+   *
+   * @param courseStatusList 申込状況のリスト(1件以上)
+   */
+  void registerCourseStatusList(List<CourseStatus> courseStatusList);
+
+  /**
+   * 受講生を更新します。 バージョンが一致する場合のみ更新し、バージョンを1つ増やします。
    *
    * @param student 受講生
+   * @return 更新した行数(バージョンが一致しない場合は0)
    */
-  void updateStudent(Student student);
+  int updateStudent(Student student);
 
   /**
-   * 受講生コース情報をコース名を更新します。
+   * 受講生コース情報をコース名を更新します。 バージョンが一致する場合のみ更新し、バージョンを1つ増やします。
    *
    * @param studentCourse 受講生コース情報
+   * @return 更新した行数(バージョンが一致しない場合は0)
    */
-  void updateStudentCourse(StudentCourse studentCourse);
+  int updateStudentCourse(StudentCourse studentCourse);
 
   /**
-   * 申込状況を更新します。
+   * 申込状況を更新します。 バージョンが一致する場合のみ更新し、バージョンを1つ増やします。
    *
    * @param courseStatus 申込状況
+   * @return 更新した行数(バージョンが一致しない場合は0)
+   */
+  int updateCourseStatus(CourseStatus courseStatus);
+
+  /**
+   * 受講生のうち、指定された項目に対応する列のみを更新します。 バージョンが一致する場合のみ更新し、バージョンを1つ増やします。
+   *
+   * @param student        受講生
+   * @param changedColumns 更新する項目のプロパティ名(1件以上)
+   * @return 更新した行数(バージョンが一致しない場合は0)
+   */
+  int updateStudentColumns(Student student, Set<String> changedColumns);
+
+  /**
+   * 受講生コース情報のコース名を1回の UPDATE 文でまとめて更新します。
+   * バージョンが一致する行のみ更新し、更新した行のバージョンを1つ増やします。
+   *
+   * @param studentCourseList 受講生コース情報のリスト(1件以上)
+   * @return 更新した行数(バージョンが一致しない行は含まない)
+   */
+  int updateStudentCourseNames(List<StudentCourse> studentCourseList);
+
+  /**
+   * 申込状況を1回の UPDATE 文でまとめて更新します。
+   * バージョンが一致する行のみ更新し、更新した行のバージョンを1つ増やします。
+   *
+   * @param courseStatusList 申込状況のリスト(1件以上)
+   * @return 更新した行数(バージョンが一致しない行は含まない)
+   */
+  int updateCourseStatusList(List<CourseStatus> courseStatusList);
+
+  /**
+   * アーカイブする論理削除済みの受講生の受講生IDを、受講生IDの昇順に検索します。
+   * 取得した受講生の行はトランザクションの終了までロックするので、移動中に他の更新で論理削除が取り消されることはありません。
+   *
+   * @param limit 取得件数
+   * @return 論理削除済みの受講生の受講生ID
+   */
+  List<String> searchDeletedStudentIdsForUpdate(int limit);
+
+  /**
+   * 受講生IDの一覧に該当する受講生を、アーカイブ用のテーブルに複製します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 複製した行数
+   */
+  int archiveStudents(Collection<String> studentIds);
+
+  /**
+   * 受講生IDの一覧に紐づく受講生コース情報を、アーカイブ用のテーブルに複製します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 複製した行数
+   */
+  int archiveStudentCourses(Collection<String> studentIds);
+
+  /**
+   * 受講生IDの一覧に紐づく申込状況を、受講生コース情報を介してアーカイブ用のテーブルに複製します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 複製した行数
+   */
+  int archiveCourseStatus(Collection<String> studentIds);
+
+  /**
+   * 受講生IDの一覧に紐づく申込状況を、受講生コース情報を介して削除します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 削除した行数
+   */
+  int deleteCourseStatusByStudentIds(Collection<String> studentIds);
+
+  /**
+   * 受講生IDの一覧に紐づく受講生コース情報を削除します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 削除した行数
+   */
+  int deleteStudentCoursesByStudentIds(Collection<String> studentIds);
+
+  /**
+   * 受講生IDの一覧に該当する受講生を削除します。
+   *
+   * @param studentIds 受講生IDの一覧
+   * @return 削除した行数
+   */
+  int deleteStudents(Collection<String> studentIds);
+
+  /**
+   * アーカイブした受講生詳細の検索を、受講生・受講生コース情報・申込状況を結合した1回のクエリで行います。
+   *
+   * @param id 受講生ID
+   * @return アーカイブした受講生詳細(アーカイブした受講生が存在しない場合は null)
+   */
+  StudentDetail searchArchivedStudentDetail(String id);
+
+  /**
+   * アーカイブした受講生詳細のページ検索を行います。 受講生IDの昇順に、指定した受講生IDより後ろの受講生を取得します。
+   *
+   * @param afterId 前ページ最後の受講生ID(先頭ページの場合は null)
+   * @param limit   取得件数
+   * @return アーカイブした受講生詳細(1ページ分)
    */
-  void updateCourseStatus(CourseStatus courseStatus);
+  List<StudentDetail> searchArchivedStudentDetailPage(Long afterId, int limit);
 
 }
@@ -0,0 +1,43 @@
+package raisetech.studentManagement.repository.typehandler;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+import raisetech.studentManagement.data.ApplicationStatus;
+
+/**
+ * 申込状況をデータベースの数値のコードと相互に変換する TypeHandler です。
+ */
+@MappedTypes(ApplicationStatus.class)
+public class ApplicationStatusTypeHandler extends BaseTypeHandler<ApplicationStatus> {
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, ApplicationStatus parameter,
+      JdbcType jdbcType) throws SQLException {
+    ps.setInt(i, parameter.getCode());
+  }
+
+  @Override
+  public ApplicationStatus getNullableResult(ResultSet rs, String columnName)
+      throws SQLException {
+    int code = rs.getInt(columnName);
+    return rs.wasNull() ? null : ApplicationStatus.fromCode(code);
+  }
+
+  @Override
+  public ApplicationStatus getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    int code = rs.getInt(columnIndex);
+    return rs.wasNull() ? null : ApplicationStatus.fromCode(code);
+  }
+
+  @Override
+  public ApplicationStatus getNullableResult(CallableStatement cs, int columnIndex)
+      throws SQLException {
+    int code = cs.getInt(columnIndex);
+    return cs.wasNull() ? null : ApplicationStatus.fromCode(code);
+  }
+}
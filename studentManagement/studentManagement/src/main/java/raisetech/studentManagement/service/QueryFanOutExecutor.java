@@ -0,0 +1,149 @@
+package raisetech.studentManagement.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.studentManagement.config.StudentManagementProperties;
+
+/**
+ * 互いに依存しない検索を仮想スレッドで並行して実行するクラスです。
+ * 並行して実行する検索はそれぞれ別のコネクションを使用するので、同時に実行する検索の数をコネクションプールの大きさの半分までに制限し、
+ * 残りのコネクションを他のリクエストのために空けておきます。
+ * <p>
+ * 呼び出したスレッドがトランザクション(コミット後の処理を含む)でコネクションを保持している場合は、並行して実行せずに呼び出したスレッドで順に検索します。
+ * 保持したまま並行検索の終了を待つと、1つのリクエストが検索の数より1つ多いコネクションを使うことになり、
+ * 同時実行数の上限では保持しているコネクションを数えられないので、同時に多くのリクエストがあるとコネクションプールが枯渇します。
+ * </p>
+ */
+@Slf4j
+@Component
+public class QueryFanOutExecutor implements DisposableBean {
+
+  private final boolean enabled;
+
+  private final Semaphore permits;
+
+  private final ExecutorService executor;
+
+  private final DataSource dataSource;
+
+  public QueryFanOutExecutor(StudentManagementProperties properties) {
+    this(properties, null);
+  }
+
+  @Autowired
+  public QueryFanOutExecutor(StudentManagementProperties properties,
+      ObjectProvider<DataSource> dataSourceProvider) {
+    StudentManagementProperties.FanOut fanOut = properties.getFanOut();
+    int maxConcurrentQueries = fanOut.getMaxConcurrentQueries();
+    DataSource dataSource = Objects.isNull(dataSourceProvider)
+        ? null
+        : dataSourceProvider.getIfAvailable();
+    Integer poolSize = maximumPoolSize(dataSource);
+    if (Objects.nonNull(poolSize)) {
+      maxConcurrentQueries = Math.min(maxConcurrentQueries, Math.max(1, poolSize / 2));
+    }
+
+    this.enabled = fanOut.isEnabled();
+    this.dataSource = dataSource;
+    this.permits = new Semaphore(Math.max(1, maxConcurrentQueries));
+    this.executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("student-query-", 0).factory());
+    log.info("並行検索: enabled={}, 同時実行数の上限={}, コネクションプールの大きさ={}",
+        enabled, permits.availablePermits(), poolSize);
+  }
+
+  /**
+   * 検索を開始します。 無効な場合や呼び出したスレッドがコネクションを保持している場合は、呼び出したスレッドでそのまま検索を行います。
+   * 同時に実行している検索の数が上限に達している場合は、空きができるまで仮想スレッド上で待ちます。
+   *
+   * @param query 検索処理
+   * @return 検索結果
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> query) {
+    if (!enabled || holdsConnection()) {
+      try {
+        return CompletableFuture.completedFuture(query.get());
+      } catch (RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      permits.acquireUninterruptibly();
+      try {
+        return query.get();
+      } finally {
+        permits.release();
+      }
+    }, executor);
+  }
+
+  /**
+   * 検索の終了を待って結果を返します。 検索中に発生した例外はそのままスローします。
+   *
+   * @param future 検索結果
+   * @return 検索結果
+   */
+  public <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  /**
+   * 呼び出したスレッドがコネクションを保持しているかを返します。
+   * トランザクション中のほか、コミット後のイベントリスナーでもコネクションはまだスレッドに紐づいています。
+   *
+   * @return コネクションを保持している場合は true
+   */
+  private boolean holdsConnection() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        || Objects.nonNull(dataSource) && TransactionSynchronizationManager.hasResource(dataSource);
+  }
+
+  /**
+   * コネクションプールの最大コネクション数を返します。 HikariCP 以外の場合は分からないので null を返します。
+   *
+   * @param dataSource データソース
+   * @return 最大コネクション数
+   */
+  private static Integer maximumPoolSize(DataSource dataSource) {
+    if (Objects.isNull(dataSource)) {
+      return null;
+    }
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+      }
+    } catch (SQLException e) {
+      log.warn("コネクションプールの大きさを取得できませんでした。", e);
+    }
+    return null;
+  }
+}
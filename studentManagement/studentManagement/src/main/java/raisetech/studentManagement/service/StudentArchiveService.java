@@ -0,0 +1,60 @@
+package raisetech.studentManagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.dto.StudentArchiveResult;
+
+/**
+ * 論理削除済みの受講生を、受講生コース情報・申込状況とともにアーカイブ用のテーブルへ移動するサービスです。
+ * 一定件数ごとに別々のトランザクションで移動するので、ロックする行と1回のトランザクションの大きさは件数に関わらず一定です。
+ * 通常のテーブルとそのインデックスには論理削除されていない受講生のみが残ります。
+ */
+@Slf4j
+@Service
+public class StudentArchiveService {
+
+  private StudentService service;
+  private StudentManagementProperties properties;
+
+  @Autowired
+  public StudentArchiveService(StudentService service, StudentManagementProperties properties) {
+    this.service = service;
+    this.properties = properties;
+  }
+
+  /**
+   * 設定した日時に、論理削除済みの受講生をアーカイブします。 アーカイブが無効な場合は何もしません。
+   */
+  @Scheduled(cron = "${student-management.archive.cron:0 0 3 * * *}")
+  public void archiveOnSchedule() {
+    if (properties.getArchive().isEnabled()) {
+      archiveDeletedStudents();
+    }
+  }
+
+  /**
+   * 論理削除済みの受講生を一定件数ごとにアーカイブ用のテーブルへ移動します。
+   * 論理削除済みの受講生がなくなるか、設定したトランザクションの最大数に達するまで繰り返します。
+   *
+   * @return 移動した行数の合計
+   */
+  public StudentArchiveResult archiveDeletedStudents() {
+    StudentManagementProperties.Archive archive = properties.getArchive();
+    StudentArchiveResult total = new StudentArchiveResult();
+    for (int batch = 0; batch < archive.getMaxBatches(); batch++) {
+      StudentArchiveResult result = service.archiveDeletedStudents(archive.getBatchSize());
+      total.add(result);
+      if (result.getStudentCount() < archive.getBatchSize()) {
+        break;
+      }
+    }
+    if (total.getStudentCount() > 0) {
+      log.info("論理削除済みの受講生をアーカイブしました。 受講生={} 受講生コース情報={} 申込状況={}",
+          total.getStudentCount(), total.getStudentCourseCount(), total.getCourseStatusCount());
+    }
+    return total;
+  }
+}
@@ -0,0 +1,149 @@
+package raisetech.studentManagement.service;
+
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentBulkRegisterResult;
+import raisetech.studentManagement.dto.StudentRegisterResult;
+
+/**
+ * 受講生詳細の一括登録を行うサービスです。
+ * 入力チェックを並列で行ったあと、一定件数ごとに別々のトランザクションでまとめて登録し、1件ごとの登録結果を返します。
+ */
+@Slf4j
+@Service
+public class StudentBulkRegisterService {
+
+  private StudentService service;
+  private Validator validator;
+  private StudentManagementProperties properties;
+
+  @Autowired
+  public StudentBulkRegisterService(StudentService service, Validator validator,
+      StudentManagementProperties properties) {
+    this.service = service;
+    this.validator = validator;
+    this.properties = properties;
+  }
+
+  /**
+   * 受講生詳細の一括登録を行います。
+   * 入力チェックに掛かった受講生詳細は登録せず、残りを一定件数ごとに登録します。
+   * まとめての登録に失敗した場合は、そのまとまりのみ1件ずつ登録し直して失敗した受講生詳細を特定します。
+   *
+   * @param studentDetailList 受講生詳細のリスト
+   * @return 1件ごとの登録結果
+   */
+  public StudentBulkRegisterResult registerStudentList(List<StudentDetail> studentDetailList) {
+    StudentRegisterResult[] results = new StudentRegisterResult[studentDetailList.size()];
+
+    // 入力チェックを並列で行う。
+    List<List<String>> errorLists = IntStream.range(0, studentDetailList.size())
+        .parallel()
+        .mapToObj(index -> validate(studentDetailList.get(index)))
+        .collect(Collectors.toList());
+
+    List<Integer> validIndexes = new ArrayList<>();
+    for (int index = 0; index < studentDetailList.size(); index++) {
+      if (errorLists.get(index).isEmpty()) {
+        validIndexes.add(index);
+      } else {
+        results[index] = new StudentRegisterResult(index, false, null, errorLists.get(index));
+      }
+    }
+
+    int chunkSize = properties.getBulk().getChunkSize();
+    for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+      List<Integer> chunkIndexes = validIndexes.subList(from,
+          Math.min(from + chunkSize, validIndexes.size()));
+      List<StudentDetail> chunk = chunkIndexes.stream()
+          .map(studentDetailList::get)
+          .collect(Collectors.toList());
+      registerChunk(chunk, chunkIndexes)
+          .forEach(result -> results[result.getIndex()] = result);
+    }
+
+    List<StudentRegisterResult> resultList = Arrays.asList(results);
+    int successCount = (int) resultList.stream().filter(StudentRegisterResult::isSuccess).count();
+    return new StudentBulkRegisterResult(successCount, resultList.size() - successCount,
+        resultList);
+  }
+
+  /**
+   * 一定件数分の受講生詳細を1つのトランザクションでまとめて登録します。
+   * 失敗した場合は1件ずつ別々のトランザクションで登録し直します。
+   * 1件ずつの登録にも失敗した受講生詳細は、例外をログに出力し、登録結果にはデータベースのエラー内容を含まないメッセージを返します。
+   *
+   * @param chunk        登録する受講生詳細のリスト
+   * @param chunkIndexes 登録する受講生詳細それぞれの位置
+   * @return 1件ごとの登録結果
+   */
+  List<StudentRegisterResult> registerChunk(List<StudentDetail> chunk,
+      List<Integer> chunkIndexes) {
+    List<StudentRegisterResult> resultList = new ArrayList<>(chunk.size());
+    try {
+      service.registerStudentList(chunk);
+      for (int i = 0; i < chunk.size(); i++) {
+        resultList.add(new StudentRegisterResult(chunkIndexes.get(i), true,
+            chunk.get(i).getStudent().getId(), List.of()));
+      }
+    } catch (RuntimeException chunkException) {
+      for (int i = 0; i < chunk.size(); i++) {
+        StudentDetail studentDetail = chunk.get(i);
+        try {
+          service.registerStudent(studentDetail);
+          resultList.add(new StudentRegisterResult(chunkIndexes.get(i), true,
+              studentDetail.getStudent().getId(), List.of()));
+        } catch (RuntimeException e) {
+          log.warn("受講生詳細を登録できませんでした。(位置：{})", chunkIndexes.get(i), e);
+          resultList.add(new StudentRegisterResult(chunkIndexes.get(i), false, null,
+              List.of(toErrorMessage(e))));
+        }
+      }
+    }
+    return resultList;
+  }
+
+  /**
+   * 登録に失敗した原因を、クライアントに返すメッセージに変換します。
+   * データベースのエラー内容(テーブル名や制約名など)はクライアントに返しません。
+   *
+   * @param e 登録時に発生した例外
+   * @return 登録結果に含めるメッセージ
+   */
+  String toErrorMessage(RuntimeException e) {
+    if (e instanceof DataIntegrityViolationException) {
+      return "登録できませんでした（重複または制約違反）";
+    }
+    return "登録できませんでした";
+  }
+
+  /**
+   * 受講生詳細の入力チェックを行います。 受講生コース情報が未指定の場合は空のリストとして扱います。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 入力チェックに掛かった項目のメッセージ(問題がない場合は空)
+   */
+  List<String> validate(StudentDetail studentDetail) {
+    if (Objects.isNull(studentDetail) || Objects.isNull(studentDetail.getStudent())) {
+      return List.of("受講生を入力してください。");
+    }
+    if (Objects.isNull(studentDetail.getStudentCourseList())) {
+      studentDetail.setStudentCourseList(new ArrayList<>());
+    }
+    return validator.validate(studentDetail).stream()
+        .map(violation -> violation.getPropertyPath() + "：" + violation.getMessage())
+        .sorted()
+        .collect(Collectors.toList());
+  }
+}
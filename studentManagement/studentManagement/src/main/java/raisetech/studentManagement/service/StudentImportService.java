@@ -0,0 +1,282 @@
+package raisetech.studentManagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentImportResult;
+import raisetech.studentManagement.dto.StudentRegisterResult;
+
+/**
+ * CSV/TSV ファイルから受講生詳細を取り込むサービスです。
+ * <p>
+ * ファイルは1行ずつ読み込んで受講生詳細に変換し、入力チェックを行ったあと一定件数ごとにまとめて登録します。
+ * 読み込みと登録は別スレッドで並行して行い、登録待ちのまとまりが上限に達した場合は読み込みを待つので、
+ * ファイルの大きさに関わらず一定のメモリで取り込めます。
+ * </p>
+ * <p>
+ * ファイルの1行目はヘッダー行で、name, kanaName, nickname, email, address, age, gender, remark, courseNames
+ * の列を持ちます。 courseNames には受講コース名を「;」区切りで指定します。
+ * </p>
+ */
+@Slf4j
+@Service
+public class StudentImportService {
+
+  static final String COURSE_NAME_SEPARATOR = ";";
+
+  /**
+   * 読み込みの終了を登録スレッドに伝えるための目印です。
+   */
+  private static final RowChunk END_OF_INPUT = new RowChunk(List.of(), List.of());
+
+  private StudentBulkRegisterService bulkRegisterService;
+  private TaskExecutor taskExecutor;
+  private StudentManagementProperties properties;
+
+  @Autowired
+  public StudentImportService(StudentBulkRegisterService bulkRegisterService,
+      TaskExecutor taskExecutor, StudentManagementProperties properties) {
+    this.bulkRegisterService = bulkRegisterService;
+    this.taskExecutor = taskExecutor;
+    this.properties = properties;
+  }
+
+  /**
+   * CSV/TSV ファイルから受講生詳細を取り込みます。
+   * 入力チェックや登録に失敗した行はログに出力して読み飛ばし、残りの行の取り込みを続けます。
+   *
+   * @param inputStream ファイルの内容(UTF-8)
+   * @param delimiter   区切り文字(CSV の場合は「,」、TSV の場合はタブ)
+   * @return 取り込みの結果
+   * @throws IOException ファイルの読み込みに失敗した場合
+   */
+  public StudentImportResult importStudents(InputStream inputStream, char delimiter)
+      throws IOException {
+    StudentManagementProperties.Importer importer = properties.getImporter();
+    ImportProgress progress = new ImportProgress(importer.getProgressInterval());
+    BlockingQueue<RowChunk> queue = new ArrayBlockingQueue<>(importer.getBufferedChunks());
+    CompletableFuture<Void> writer = CompletableFuture.runAsync(
+        () -> register(queue, progress), taskExecutor);
+
+    CSVFormat format = CSVFormat.DEFAULT.builder()
+        .setDelimiter(delimiter)
+        .setHeader()
+        .setSkipHeaderRecord(true)
+        .setTrim(true)
+        .build();
+    try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        CSVParser parser = format.parse(reader)) {
+      RowChunk chunk = new RowChunk(importer.getChunkSize());
+      for (CSVRecord record : parser) {
+        progress.rowCount.incrementAndGet();
+        int rowNumber = (int) record.getRecordNumber();
+
+        StudentDetail studentDetail = toStudentDetail(record);
+        List<String> errorList = validate(record, studentDetail);
+        if (!errorList.isEmpty()) {
+          progress.failure(rowNumber, errorList);
+          continue;
+        }
+
+        chunk.studentDetailList().add(studentDetail);
+        chunk.rowNumbers().add(rowNumber);
+        if (chunk.studentDetailList().size() >= importer.getChunkSize()) {
+          enqueue(queue, chunk, writer);
+          chunk = new RowChunk(importer.getChunkSize());
+        }
+      }
+      if (!chunk.studentDetailList().isEmpty()) {
+        enqueue(queue, chunk, writer);
+      }
+    } finally {
+      enqueue(queue, END_OF_INPUT, writer);
+    }
+
+    writer.join();
+    StudentImportResult result = progress.toResult();
+    log.info("受講生詳細の取り込みが完了しました。(行数：{}、成功：{}、失敗：{}、{} 行/秒)",
+        result.getRowCount(), result.getSuccessCount(), result.getFailureCount(),
+        String.format("%.1f", result.getRowsPerSecond()));
+    return result;
+  }
+
+  /**
+   * 登録待ちのまとまりを順に取り出して登録します。 読み込みの終了の目印を取り出すまで繰り返します。
+   *
+   * @param queue    登録待ちのまとまり
+   * @param progress 取り込みの進捗
+   */
+  private void register(BlockingQueue<RowChunk> queue, ImportProgress progress) {
+    try {
+      RowChunk chunk;
+      while ((chunk = queue.take()) != END_OF_INPUT) {
+        for (StudentRegisterResult result : bulkRegisterService.registerChunk(
+            chunk.studentDetailList(), chunk.rowNumbers())) {
+          if (result.isSuccess()) {
+            progress.success();
+          } else {
+            progress.failure(result.getIndex(), result.getErrorList());
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("受講生詳細の取り込みが中断されました。", e);
+    }
+  }
+
+  /**
+   * 読み込み済みのまとまりを登録待ちにします。 登録待ちが上限に達している場合は空きができるまで待ちます。
+   * 登録スレッドが異常終了している場合はそれ以上待たずに、登録スレッドの例外をスローします。
+   *
+   * @param queue  登録待ちのまとまり
+   * @param chunk  登録待ちにするまとまり
+   * @param writer 登録スレッド
+   */
+  private void enqueue(BlockingQueue<RowChunk> queue, RowChunk chunk,
+      CompletableFuture<Void> writer) {
+    try {
+      while (!queue.offer(chunk, 1, TimeUnit.SECONDS)) {
+        if (writer.isDone()) {
+          writer.join();
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("受講生詳細の取り込みが中断されました。", e);
+    }
+  }
+
+  /**
+   * CSV/TSV の1行を受講生詳細に変換します。
+   *
+   * @param record CSV/TSV の1行
+   * @return 受講生詳細
+   */
+  StudentDetail toStudentDetail(CSVRecord record) {
+    Student student = new Student();
+    student.setName(value(record, "name"));
+    student.setKanaName(value(record, "kanaName"));
+    student.setNickname(value(record, "nickname"));
+    student.setEmail(value(record, "email"));
+    student.setAddress(value(record, "address"));
+    student.setAge(NumberUtils.toInt(value(record, "age")));
+    student.setGender(value(record, "gender"));
+    student.setRemark(StringUtils.defaultString(value(record, "remark")));
+
+    List<StudentCourse> studentCourseList = Arrays.stream(
+            StringUtils.split(StringUtils.defaultString(value(record, "courseNames")),
+                COURSE_NAME_SEPARATOR))
+        .map(String::trim)
+        .filter(StringUtils::isNotEmpty)
+        .map(courseName -> {
+          StudentCourse studentCourse = new StudentCourse();
+          studentCourse.setCourseName(courseName);
+          return studentCourse;
+        })
+        .collect(Collectors.toList());
+
+    return new StudentDetail(student, studentCourseList, null);
+  }
+
+  /**
+   * CSV/TSV の1行から変換した受講生詳細の入力チェックを行います。
+   *
+   * @param record        CSV/TSV の1行
+   * @param studentDetail 受講生詳細
+   * @return 入力チェックに掛かった項目のメッセージ(問題がない場合は空)
+   */
+  private List<String> validate(CSVRecord record, StudentDetail studentDetail) {
+    List<String> errorList = new ArrayList<>(bulkRegisterService.validate(studentDetail));
+    String age = value(record, "age");
+    if (StringUtils.isNotEmpty(age) && !NumberUtils.isDigits(age)) {
+      errorList.add("student.age：年齢は数字で入力してください。");
+    }
+    return errorList;
+  }
+
+  private String value(CSVRecord record, String column) {
+    return record.isSet(column) ? record.get(column) : null;
+  }
+
+  /**
+   * 登録待ちの受講生詳細のまとまりと、それぞれの行番号です。
+   */
+  private record RowChunk(List<StudentDetail> studentDetailList, List<Integer> rowNumbers) {
+
+    RowChunk(int chunkSize) {
+      this(new ArrayList<>(chunkSize), new ArrayList<>(chunkSize));
+    }
+  }
+
+  /**
+   * 取り込みの進捗です。 一定行数を処理するごとに処理速度をログに出力します。
+   */
+  private static class ImportProgress {
+
+    private final long startNanos = System.nanoTime();
+    private final int progressInterval;
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    ImportProgress(int progressInterval) {
+      this.progressInterval = progressInterval;
+    }
+
+    void success() {
+      successCount.incrementAndGet();
+      logProgress();
+    }
+
+    void failure(int rowNumber, List<String> errorList) {
+      failureCount.incrementAndGet();
+      log.warn("受講生詳細を取り込めませんでした。(行番号：{}、理由：{})", rowNumber, errorList);
+      logProgress();
+    }
+
+    private void logProgress() {
+      long processed = successCount.get() + failureCount.get();
+      if (processed % progressInterval == 0) {
+        log.info("受講生詳細の取り込み中です。(処理済み：{} 行、{} 行/秒)", processed,
+            String.format("%.1f", rowsPerSecond(processed)));
+      }
+    }
+
+    private double rowsPerSecond(long processed) {
+      long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+      return processed * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    StudentImportResult toResult() {
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+      return new StudentImportResult(rowCount.get(), successCount.get(), failureCount.get(),
+          elapsedMillis, rowsPerSecond(rowCount.get()));
+    }
+  }
+}
@@ -1,21 +1,63 @@
 package raisetech.studentManagement.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.cursor.Cursor;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.studentManagement.cache.StudentChangeTracker;
+import raisetech.studentManagement.cache.StudentDetailCache;
+import raisetech.studentManagement.cache.StudentFacetsCache;
+import raisetech.studentManagement.cache.StudentListSnapshot;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.config.StudentManagementProperties.QueryMode;
 import raisetech.studentManagement.converter.StudentConverter;
+import raisetech.studentManagement.data.ApplicationStatus;
 import raisetech.studentManagement.data.CourseStatus;
 import raisetech.studentManagement.data.Student;
 import raisetech.studentManagement.data.StudentCourse;
 import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.FacetCount;
+import raisetech.studentManagement.dto.StudentArchiveResult;
+import raisetech.studentManagement.dto.StudentCacheStats;
+import raisetech.studentManagement.dto.StudentFacets;
+import raisetech.studentManagement.dto.StudentPage;
 import raisetech.studentManagement.dto.StudentSearchCondition;
+import raisetech.studentManagement.dto.StudentUpdateResult;
+import raisetech.studentManagement.event.StudentChangedEvent;
+import raisetech.studentManagement.exception.InvalidCursorException;
+import raisetech.studentManagement.exception.InvalidStatusTransitionException;
+import raisetech.studentManagement.exception.InvalidStudentCourseException;
 import raisetech.studentManagement.exception.StudentNotFoundException;
+import raisetech.studentManagement.exception.StudentVersionConflictException;
+import raisetech.studentManagement.index.StudentBitmapIndex;
+import raisetech.studentManagement.index.StudentSearchIndex;
 import raisetech.studentManagement.repository.StudentRepository;
 
 /**
@@ -25,36 +67,298 @@ import raisetech.studentManagement.repository.StudentRepository;
 @Service
 public class StudentService {
 
+  /**
+   * 受講生の更新対象の項目(プロパティ名と値の取得方法)です。
+   */
+  private static final Map<String, Function<Student, Object>> STUDENT_COLUMNS = Map.of(
+      "name", Student::getName,
+      "kanaName", Student::getKanaName,
+      "nickname", Student::getNickname,
+      "email", Student::getEmail,
+      "address", Student::getAddress,
+      "age", Student::getAge,
+      "gender", Student::getGender,
+      "remark", Student::getRemark,
+      "deleted", Student::isDeleted);
+
   private StudentRepository repository;
   private StudentConverter converter;
+  private StudentManagementProperties properties;
+  private StudentDetailCache studentDetailCache;
+  private StudentListSnapshot studentListSnapshot;
+  private StudentSearchIndex studentSearchIndex;
+  private StudentBitmapIndex studentBitmapIndex;
+  private StudentFacetsCache studentFacetsCache;
+  private QueryFanOutExecutor queryFanOutExecutor;
+  private StudentChangeTracker studentChangeTracker;
+  private ApplicationEventPublisher eventPublisher;
 
   @Autowired
-  public StudentService(StudentRepository repository, StudentConverter converter) {
+  public StudentService(StudentRepository repository, StudentConverter converter,
+      StudentManagementProperties properties, StudentDetailCache studentDetailCache,
+      StudentListSnapshot studentListSnapshot, StudentSearchIndex studentSearchIndex,
+      StudentBitmapIndex studentBitmapIndex, StudentFacetsCache studentFacetsCache,
+      QueryFanOutExecutor queryFanOutExecutor, StudentChangeTracker studentChangeTracker,
+      ApplicationEventPublisher eventPublisher) {
     this.repository = repository;
     this.converter = converter;
+    this.properties = properties;
+    this.studentDetailCache = studentDetailCache;
+    this.studentListSnapshot = studentListSnapshot;
+    this.studentSearchIndex = studentSearchIndex;
+    this.studentBitmapIndex = studentBitmapIndex;
+    this.studentFacetsCache = studentFacetsCache;
+    this.queryFanOutExecutor = queryFanOutExecutor;
+    this.studentChangeTracker = studentChangeTracker;
+    this.eventPublisher = eventPublisher;
   }
 
   /**
    * 受講生詳細の一覧検索を行います。
    * 全件検索を行うので、条件指定を行いません。
+   * スナップショットが有効な場合は、メモリ上に保持した一覧を返すのでデータベースへの問い合わせは行いません。
+   * この場合に返すリストは変更できず、含まれる受講生詳細も他の呼び出しと共有しているので変更しないでください。
    *
    * @return 受講生詳細一覧(全件)
    */
   public List<StudentDetail> searchStudentList() {
-    List<Student> studentList = repository.search();
-    List<StudentCourse> studentCourseList = repository.searchStudentCourseList();
-    List<CourseStatus> courseStatusList = repository.searchCourseStatusList();
-    return converter.convertStudentDetails(studentList, studentCourseList, courseStatusList);
+    if (properties.getSnapshot().isEnabled()) {
+      return studentListSnapshot.get(this::loadStudentList);
+    }
+    return loadStudentList();
+  }
+
+  /**
+   * 受講生詳細の一覧(全件)を読み込みます。
+   * 取得方式が JOINED の場合は、受講生・受講生コース情報・申込状況を結合した1回のクエリで取得します。
+   * それ以外の場合は、受講生・受講生コース情報・申込状況の検索を並行して実行します。
+   *
+   * @return 受講生詳細一覧(全件)
+   */
+  private List<StudentDetail> loadStudentList() {
+    if (properties.getQuery().getSearchStudentListMode() == QueryMode.JOINED) {
+      return repository.searchStudentDetailList();
+    }
+
+    CompletableFuture<List<Student>> studentList = queryFanOutExecutor.submit(
+        repository::search);
+    CompletableFuture<List<StudentCourse>> studentCourseList = queryFanOutExecutor.submit(
+        repository::searchStudentCourseList);
+    CompletableFuture<List<CourseStatus>> courseStatusList = queryFanOutExecutor.submit(
+        repository::searchCourseStatusList);
+    return converter.convertStudentDetails(queryFanOutExecutor.join(studentList),
+        queryFanOutExecutor.join(studentCourseList), queryFanOutExecutor.join(courseStatusList));
+  }
+
+  /**
+   * 受講生詳細のページ検索を行います。
+   * 受講生IDの昇順にカーソル以降の受講生を1ページ分取得し、そのページの受講生に紐づく受講生コース情報と申込状況のみを取得します。
+   *
+   * @param limit  1ページあたりの件数(null の場合は既定の件数)
+   * @param cursor 前ページの検索結果で返されたカーソル(先頭ページの場合は null)
+   * @return 受講生詳細の1ページ分と次ページ取得用のカーソル
+   */
+  public StudentPage searchStudentList(Integer limit, String cursor) {
+    int pageSize = resolvePageSize(limit);
+    List<Student> studentList = repository.searchPage(decodeCursor(cursor), pageSize + 1);
+    return toStudentPage(studentList, pageSize);
+  }
+
+  /**
+   * 受講生詳細の全件を順に出力します。
+   * 受講生をカーソルで逐次取得し、一定件数ごとに受講生コース情報と申込状況を取得して受講生詳細を組み立てるので、
+   * 件数に関わらず保持する受講生詳細は一定件数分のみです。
+   * カーソルのコネクションを保持しているので、受講生コース情報と申込状況は並行して検索せずに同じコネクションで順に検索します。
+   *
+   * @param studentDetailConsumer 受講生詳細の出力先
+   */
+  @Transactional(readOnly = true)
+  public void exportStudentList(Consumer<StudentDetail> studentDetailConsumer) {
+    int chunkSize = properties.getExport().getChunkSize();
+    try (Cursor<Student> cursor = repository.searchCursor()) {
+      List<Student> studentList = new ArrayList<>(chunkSize);
+      for (Student student : cursor) {
+        studentList.add(student);
+        if (studentList.size() >= chunkSize) {
+          convertStudentDetails(studentList).forEach(studentDetailConsumer);
+          studentList.clear();
+        }
+      }
+      convertStudentDetails(studentList).forEach(studentDetailConsumer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   /**
    * 受講生詳細検索です。
-   * IDに紐づく受講生情報を取得したあと、その受講生に紐づく受講生コース情報を取得して設定します。
+   * キャッシュにある場合はキャッシュから取得し、ない場合は検索してキャッシュに保持します。
    *
    * @param id 受講ID
    * @return 受講生詳細
    */
   public StudentDetail searchStudent(String id) {
+    return studentDetailCache.get(id, this::loadStudent);
+  }
+
+  /**
+   * アーカイブした受講生詳細の検索です。 アーカイブ用のテーブルのみを検索するので、キャッシュは使用しません。
+   *
+   * @param id 受講生ID
+   * @return アーカイブした受講生詳細
+   */
+  public StudentDetail searchArchivedStudent(String id) {
+    StudentDetail studentDetail = repository.searchArchivedStudentDetail(id);
+    if (Objects.isNull(studentDetail)) {
+      throw new StudentNotFoundException("(アーカイブ済み ID：" + id + ")");
+    }
+    return studentDetail;
+  }
+
+  /**
+   * アーカイブした受講生詳細のページ検索を行います。
+   * 受講生IDの昇順にカーソル以降の受講生を1ページ分、受講生コース情報と申込状況を結合した1回のクエリで取得します。
+   *
+   * @param limit  1ページあたりの件数(null の場合は既定の件数)
+   * @param cursor 前ページの検索結果で返されたカーソル(先頭ページの場合は null)
+   * @return アーカイブした受講生詳細の1ページ分と次ページ取得用のカーソル
+   */
+  public StudentPage searchArchivedStudentList(Integer limit, String cursor) {
+    int pageSize = resolvePageSize(limit);
+    List<StudentDetail> studentDetailList = repository.searchArchivedStudentDetailPage(
+        decodeCursor(cursor), pageSize + 1);
+    if (studentDetailList.size() <= pageSize) {
+      return new StudentPage(studentDetailList, null);
+    }
+    List<StudentDetail> pageDetailList = new ArrayList<>(studentDetailList.subList(0, pageSize));
+    return new StudentPage(pageDetailList,
+        encodeCursor(pageDetailList.getLast().getStudent().getId()));
+  }
+
+  /**
+   * 登録・更新された受講生詳細を、コミット後に受講生詳細の一覧のスナップショットと検索用の各索引へ反映します。
+   * 該当する受講生のみを読み込み直して差し替えるので、全体の再読み込みは行いません。
+   * 一覧の ETag は、スナップショットに反映した後に変えます。
+   *
+   * @param event 受講生詳細の登録・更新の通知
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudentChanged(StudentChangedEvent event) {
+    if (properties.getSnapshot().isEnabled()) {
+      studentListSnapshot.patch(event.studentIds(), studentIds -> convertStudentDetails(
+          searchInChunks(new ArrayList<>(studentIds), repository::searchStudentByIds)));
+    }
+    studentChangeTracker.recordChange();
+    if (properties.getSearchIndex().isEnabled()) {
+      studentSearchIndex.patch(event.studentIds(), studentIds -> searchInChunks(
+          new ArrayList<>(studentIds), repository::searchStudentByIdsIncludingDeleted));
+    }
+    if (properties.getBitmapIndex().isEnabled()) {
+      studentBitmapIndex.patch(event.studentIds(), studentIds -> searchInChunks(
+          new ArrayList<>(studentIds), repository::searchStudentByIdsIncludingDeleted));
+    }
+  }
+
+  /**
+   * 正規化したカナ名が未設定の受講生について、カナ名から求めた値を設定します。
+   * 正規化したカナ名の列を追加する前に登録された受講生のために、アプリケーションの起動時に実行します。
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillKanaNameNormalized() {
+    int chunkSize = properties.getBulk().getChunkSize();
+    Long afterId = null;
+    List<Student> studentList;
+    do {
+      studentList = repository.searchKanaNameNormalizedMissing(afterId, chunkSize);
+      studentList.forEach(repository::updateKanaNameNormalized);
+      if (!studentList.isEmpty()) {
+        afterId = Long.valueOf(studentList.getLast().getId());
+      }
+    } while (studentList.size() == chunkSize);
+  }
+
+  /**
+   * 受講生詳細のキャッシュの統計情報を取得します。
+   *
+   * @return キャッシュの統計情報
+   */
+  public StudentCacheStats getStudentCacheStats() {
+    return studentDetailCache.stats();
+  }
+
+  /**
+   * 受講生詳細の一覧の ETag を返します。 一覧を取得する前に呼び出してください。
+   *
+   * @return 受講生詳細の一覧の ETag(ETag が無効な場合は null)
+   */
+  public String getStudentListETag() {
+    return properties.getEtag().isEnabled() ? studentChangeTracker.listETag() : null;
+  }
+
+  /**
+   * 受講生詳細の ETag を返します。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 受講生詳細の ETag(ETag が無効な場合は null)
+   */
+  public String getStudentETag(StudentDetail studentDetail) {
+    return properties.getEtag().isEnabled() ? studentChangeTracker.detailETag(studentDetail) : null;
+  }
+
+  /**
+   * 指定された検索条件に合致する受講生(論理削除済みを除く)について、申込状況・コース名・居住地域ごとの件数を集計します。
+   * 集計結果は検索条件ごとにキャッシュし、受講生詳細が登録・更新されるまで同じ結果を返します。
+   *
+   * @param condition 検索条件(null の場合は全件)
+   * @return 集計結果
+   */
+  public StudentFacets getFacets(StudentSearchCondition condition) {
+    StudentSearchCondition searchCondition = Objects.isNull(condition)
+        ? new StudentSearchCondition()
+        : condition;
+    return studentFacetsCache.get(searchCondition, this::countFacets);
+  }
+
+  private StudentFacets countFacets(StudentSearchCondition condition) {
+    return new StudentFacets(
+        toCountMap(repository.countByStatus(condition),
+            code -> ApplicationStatus.fromCode(Integer.parseInt(code)).getLabel()),
+        toCountMap(repository.countByCourseName(condition), Function.identity()),
+        toCountMap(repository.countByAddress(condition), Function.identity()));
+  }
+
+  /**
+   * 集計結果を、並び順を維持した変更できないマップに変換します。
+   *
+   * @param facetCountList 値ごとの件数のリスト
+   * @param keyMapper      値をマップのキーに変換する処理
+   * @return 値をキー、件数を値とするマップ
+   */
+  private Map<String, Long> toCountMap(List<FacetCount> facetCountList,
+      Function<String, String> keyMapper) {
+    Map<String, Long> countMap = new LinkedHashMap<>();
+    for (FacetCount facetCount : facetCountList) {
+      countMap.put(keyMapper.apply(facetCount.getValue()), facetCount.getCount());
+    }
+    return Collections.unmodifiableMap(countMap);
+  }
+
+  /**
+   * IDに紐づく受講生情報を取得したあと、その受講生に紐づく受講生コース情報を取得して設定します。
+   * 取得方式が JOINED の場合は、受講生・受講生コース情報・申込状況を結合した1回のクエリで取得します。
+   *
+   * @param id 受講ID
+   * @return 受講生詳細
+   */
+  private StudentDetail loadStudent(String id) {
+    if (properties.getQuery().getSearchStudentMode() == QueryMode.JOINED) {
+      StudentDetail studentDetail = repository.searchStudentDetail(id);
+      if (Objects.isNull(studentDetail)) {
+        throw new StudentNotFoundException("(ID：" + id + ")");
+      }
+      return studentDetail;
+    }
+
     Student student = repository.searchStudent(id);
 
     if (Objects.isNull(student)) {
@@ -74,25 +378,229 @@ public class StudentService {
 
   /**
    * 指定された検索条件に合致する受講生詳細を取得します。
+   * 受講生コース情報と申込状況は、条件に合致した受講生に紐づくもののみ取得します。
+   * 受講生の絞り込みは可能な限りメモリ上の索引で行います(詳細は {@link #searchByIndex} を参照)。
+   * 索引で絞り込めない場合で取得方式が JOINED の場合は、受講生・受講生コース情報・申込状況を結合した1回のクエリで取得します。
    *
    * @param condition 検索条件
    * @return 検索条件に合致する受講生詳細のリスト
    */
   public List<StudentDetail> searchByCondition(StudentSearchCondition condition) {
+    Optional<List<Student>> indexedStudentList = searchByIndex(condition, null, Integer.MAX_VALUE);
+    if (indexedStudentList.isPresent()) {
+      if (indexedStudentList.get().isEmpty()) {
+        throw new StudentNotFoundException("(検索条件：" + condition + ")");
+      }
+      return convertStudentDetails(indexedStudentList.get());
+    }
+
+    if (properties.getQuery().getSearchByConditionMode() == QueryMode.JOINED) {
+      List<StudentDetail> studentDetailList = repository.searchStudentDetailByCondition(condition);
+      if (studentDetailList.isEmpty()) {
+        throw new StudentNotFoundException("(検索条件：" + condition + ")");
+      }
+      return studentDetailList;
+    }
+
     List<Student> studentList = repository.searchByCondition(condition);
-    List<StudentCourse> studentCourseList = repository.searchStudentCourseList();
-    List<CourseStatus> CourseStatusList = repository.searchCourseStatusList();
 
     if (studentList.isEmpty()) {
       throw new StudentNotFoundException("(検索条件：" + condition + ")");
     }
 
-    return converter.convertStudentDetails(studentList, studentCourseList, CourseStatusList);
+    return convertStudentDetails(studentList);
+  }
+
+  /**
+   * 指定された検索条件に合致する受講生詳細のページ検索を行います。
+   *
+   * @param condition 検索条件
+   * @param limit     1ページあたりの件数(null の場合は既定の件数)
+   * @param cursor    前ページの検索結果で返されたカーソル(先頭ページの場合は null)
+   * @return 検索条件に合致する受講生詳細の1ページ分と次ページ取得用のカーソル
+   */
+  public StudentPage searchByCondition(StudentSearchCondition condition, Integer limit,
+      String cursor) {
+    int pageSize = resolvePageSize(limit);
+    Long afterId = decodeCursor(cursor);
+    List<Student> studentList = searchByIndex(condition, afterId, pageSize + 1)
+        .orElseGet(() -> repository.searchByConditionPage(condition, afterId, pageSize + 1));
+
+    if (studentList.isEmpty() && Objects.isNull(cursor)) {
+      throw new StudentNotFoundException("(検索条件：" + condition + ")");
+    }
+
+    return toStudentPage(studentList, pageSize);
+  }
+
+  /**
+   * 検索条件に合致する受講生を、メモリ上の索引で検索します。
+   * <p>
+   * 居住地域・性別・年齢の条件が指定されている場合は、まずビットマップ索引で受講生IDを絞り込みます。
+   * 部分一致検索の項目が指定されている場合は、絞り込んだ受講生IDの中から N-gram の索引で検索します。
+   * 部分一致検索の項目が指定されていない場合は、ビットマップ索引で絞り込んだ受講生IDのみをデータベースから取得します。
+   * </p>
+   *
+   * @param condition 検索条件
+   * @param afterId   この受講生IDより後ろの受講生のみを対象にする(null の場合は先頭から)
+   * @param limit     取得件数
+   * @return 検索条件に合致する受講生の受講生IDの昇順の一覧(索引が無効な場合や索引で検索できない場合は空)
+   */
+  private Optional<List<Student>> searchByIndex(StudentSearchCondition condition, Long afterId,
+      int limit) {
+    boolean hasKeyword = hasKeyword(condition);
+    if (hasKeyword && !properties.getSearchIndex().isEnabled()) {
+      return Optional.empty();
+    }
+    RoaringBitmap filter = properties.getBitmapIndex().isEnabled()
+        ? studentBitmapIndex.filter(condition, repository::searchAllIncludingDeleted).orElse(null)
+        : null;
+
+    if (hasKeyword) {
+      return studentSearchIndex.search(condition, filter, repository::searchAllIncludingDeleted)
+          .map(studentList -> studentList.stream()
+              .filter(student -> Objects.isNull(afterId)
+                  || Long.parseLong(student.getId()) > afterId)
+              .limit(limit)
+              .toList());
+    }
+
+    if (Objects.isNull(filter)) {
+      return Optional.empty();
+    }
+    List<String> studentIds = new ArrayList<>();
+    PeekableIntIterator iterator = filter.getIntIterator();
+    if (Objects.nonNull(afterId)) {
+      iterator.advanceIfNeeded((int) Math.min(afterId + 1, Integer.MAX_VALUE));
+    }
+    while (iterator.hasNext() && studentIds.size() < limit) {
+      int studentId = iterator.next();
+      if (Objects.isNull(afterId) || studentId > afterId) {
+        studentIds.add(String.valueOf(studentId));
+      }
+    }
+    return Optional.of(searchInChunks(studentIds, repository::searchStudentByIdsIncludingDeleted));
+  }
+
+  /**
+   * 検索条件に部分一致検索の項目が指定されているかを判定します。
+   *
+   * @param condition 検索条件
+   * @return 名前・カナ名・ニックネーム・メールアドレス・備考のいずれかが指定されている場合は true
+   */
+  private boolean hasKeyword(StudentSearchCondition condition) {
+    return StringUtils.isNotEmpty(condition.getName())
+        || StringUtils.isNotEmpty(condition.getKananame())
+        || StringUtils.isNotEmpty(condition.getNickname())
+        || StringUtils.isNotEmpty(condition.getEmail())
+        || StringUtils.isNotEmpty(condition.getRemark());
+  }
+
+  /**
+   * 1ページ分より1件多く取得した受講生から、受講生詳細のページを組み立てます。
+   * 余分に取得できた場合は次ページが存在するので、ページ最後の受講生IDからカーソルを作成します。
+   *
+   * @param studentList 受講生の一覧(最大でページの件数+1件)
+   * @param pageSize    1ページあたりの件数
+   * @return 受講生詳細の1ページ分と次ページ取得用のカーソル
+   */
+  private StudentPage toStudentPage(List<Student> studentList, int pageSize) {
+    boolean hasNext = studentList.size() > pageSize;
+    List<Student> pageStudentList = hasNext ? studentList.subList(0, pageSize) : studentList;
+    String nextCursor = hasNext ? encodeCursor(pageStudentList.getLast().getId()) : null;
+    return new StudentPage(convertStudentDetails(pageStudentList), nextCursor);
+  }
+
+  /**
+   * 受講生の一覧に紐づく受講生コース情報と申込状況のみを取得して、受講生詳細を組み立てます。
+   * 受講生コース情報と申込状況はどちらも受講生IDの一覧で検索できるので、並行して検索します。
+   * ただし、トランザクション中やコミット後の処理でコネクションを保持している場合は、そのコネクションで順に検索します。
+   * IN句に渡すIDは一定件数ごとに分割して検索します。
+   *
+   * @param studentList 受講生の一覧
+   * @return 受講生詳細のリスト
+   */
+  private List<StudentDetail> convertStudentDetails(List<Student> studentList) {
+    if (studentList.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<String> studentIds = studentList.stream()
+        .map(Student::getId)
+        .distinct()
+        .collect(Collectors.toList());
+    CompletableFuture<List<StudentCourse>> studentCourseList = queryFanOutExecutor.submit(
+        () -> searchInChunks(studentIds, repository::searchStudentCourseByStudentIds));
+    CompletableFuture<List<CourseStatus>> courseStatusList = queryFanOutExecutor.submit(
+        () -> searchInChunks(studentIds, repository::searchCourseStatusByStudentIds));
+
+    return converter.convertStudentDetails(studentList, queryFanOutExecutor.join(studentCourseList),
+        queryFanOutExecutor.join(courseStatusList));
+  }
+
+  /**
+   * IDの一覧を一定件数ごとに分割して検索し、結果をまとめて返します。 IDの一覧が空の場合は検索を行いません。
+   *
+   * @param ids    IDの一覧
+   * @param search 分割したIDの一覧で検索を行う処理
+   * @return 検索結果
+   */
+  private <T> List<T> searchInChunks(List<String> ids, Function<List<String>, List<T>> search) {
+    int chunkSize = properties.getQuery().getInClauseChunkSize();
+    List<T> result = new ArrayList<>();
+    for (int from = 0; from < ids.size(); from += chunkSize) {
+      result.addAll(search.apply(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+    }
+    return result;
+  }
+
+  /**
+   * 指定された件数を、既定の件数と最大件数をもとに1ページあたりの件数に変換します。
+   *
+   * @param limit 指定された件数
+   * @return 1ページあたりの件数
+   */
+  private int resolvePageSize(Integer limit) {
+    StudentManagementProperties.Paging paging = properties.getPaging();
+    if (Objects.isNull(limit)) {
+      return paging.getDefaultLimit();
+    }
+    return Math.max(1, Math.min(limit, paging.getMaxLimit()));
+  }
+
+  /**
+   * 受講生IDからページング用のカーソルを作成します。
+   *
+   * @param studentId 受講生ID
+   * @return カーソル
+   */
+  String encodeCursor(String studentId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(studentId.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * ページング用のカーソルを受講生IDに変換します。
+   *
+   * @param cursor カーソル
+   * @return 受講生ID(カーソルが null の場合は null)
+   */
+  Long decodeCursor(String cursor) {
+    if (Objects.isNull(cursor)) {
+      return null;
+    }
+    try {
+      return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor),
+          StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException("カーソルが不正です。(カーソル：" + cursor + ")");
+    }
   }
 
   /**
    * 受講生詳細の登録を行います。 　
    * 受講生と受講生コース情報を個別に登録し、受講生コース情報には受講生情報を紐づける値やコース開始日、コース終了日を設定します。
+   * 受講生コース情報と申込状況は、それぞれ全件をまとめて1回で登録します。
    *
    * @param studentDetail 受講生詳細
    * @return 登録情報を付与した受講生詳細
@@ -104,26 +612,81 @@ public class StudentService {
     // 受講生の登録を行う。
     repository.registerStudent(student);
 
-    List<CourseStatus> courseStatusList = new ArrayList<>();
+    List<StudentCourse> studentCourseList = studentDetail.getStudentCourseList();
+    studentCourseList.forEach(
+        studentsCourse -> initStudentsCourse(studentsCourse, student.getId()));
 
-    studentDetail.getStudentCourseList().forEach(studentsCourse -> {
+    // 受講生コース情報の登録を行う。採番されたIDは各受講生コース情報に設定される。
+    if (!studentCourseList.isEmpty()) {
+      repository.registerStudentCourseList(studentCourseList);
+    }
 
-      initStudentsCourse(studentsCourse, student.getId());
+    List<CourseStatus> courseStatusList = studentCourseList.stream()
+        .map(studentsCourse -> {
+          CourseStatus courseStatus = new CourseStatus();
+          initCourseStatus(courseStatus, studentsCourse.getId());
+          return courseStatus;
+        })
+        .collect(Collectors.toList());
 
-      // 受講生コース情報の登録を行う。
-      repository.registerStudentCourse(studentsCourse);
+    // 申込状況の登録を行う。採番されたIDは各申込状況に設定される。
+    if (!courseStatusList.isEmpty()) {
+      repository.registerCourseStatusList(courseStatusList);
+    }
+    studentDetail.setCourseStatusList(courseStatusList);
+
+    publishStudentChanged(List.of(studentDetail));
+    return studentDetail;
+  }
+
+  /**
+   * 複数の受講生詳細の登録を1つのトランザクションで行います。
+   * 受講生・受講生コース情報・申込状況は、それぞれ全件をまとめて1回で登録します。
+   *
+   * @param studentDetailList 受講生詳細のリスト
+   * @return 登録情報を付与した受講生詳細のリスト
+   */
+  @Transactional
+  public List<StudentDetail> registerStudentList(List<StudentDetail> studentDetailList) {
+    if (studentDetailList.isEmpty()) {
+      return studentDetailList;
+    }
 
-      CourseStatus courseStatus = new CourseStatus();
-      initCourseStatus(courseStatus, studentsCourse.getId());
+    // 受講生の登録を行う。採番されたIDは各受講生に設定される。
+    repository.registerStudentList(studentDetailList.stream()
+        .map(StudentDetail::getStudent)
+        .collect(Collectors.toList()));
 
-      // 申込状況の登録を行う。
-      repository.registerCourseStatus(courseStatus);
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    studentDetailList.forEach(studentDetail -> studentDetail.getStudentCourseList()
+        .forEach(studentsCourse -> {
+          initStudentsCourse(studentsCourse, studentDetail.getStudent().getId());
+          studentCourseList.add(studentsCourse);
+        }));
 
-      courseStatusList.add(courseStatus);
-    });
-    studentDetail.setCourseStatusList(courseStatusList);
+    // 受講生コース情報の登録を行う。採番されたIDは各受講生コース情報に設定される。
+    if (!studentCourseList.isEmpty()) {
+      repository.registerStudentCourseList(studentCourseList);
+    }
 
-    return studentDetail;
+    List<CourseStatus> courseStatusList = new ArrayList<>();
+    studentDetailList.forEach(studentDetail -> studentDetail.setCourseStatusList(
+        studentDetail.getStudentCourseList().stream()
+            .map(studentsCourse -> {
+              CourseStatus courseStatus = new CourseStatus();
+              initCourseStatus(courseStatus, studentsCourse.getId());
+              courseStatusList.add(courseStatus);
+              return courseStatus;
+            })
+            .collect(Collectors.toList())));
+
+    // 申込状況の登録を行う。採番されたIDは各申込状況に設定される。
+    if (!courseStatusList.isEmpty()) {
+      repository.registerCourseStatusList(courseStatusList);
+    }
+
+    publishStudentChanged(studentDetailList);
+    return studentDetailList;
   }
 
   /**
@@ -148,28 +711,206 @@ public class StudentService {
    */
   void initCourseStatus(CourseStatus courseStatus, String id) {
     courseStatus.setStudentCourseId(id);
-    courseStatus.setStatus("仮申込");
+    courseStatus.setStatus(ApplicationStatus.TEMPORARY);
   }
 
   /**
    * 受講生詳細の更新を行います。
-   * 受講生と受講生コース情報をそれぞれ更新します。
+   * データベース上の受講生詳細と比較し、値が変わった行のみを更新します。
+   * 受講生は変わった列のみを更新し、受講生コース情報(コース名)と申込状況はそれぞれ1回の UPDATE 文でまとめて更新します。
+   * 受講生コース情報と申込状況は、この受講生に紐づくもののみ更新できます。
+   * 申込状況は、許可された申込状況への変更のみを行えます({@link ApplicationStatus#canTransitionTo})。
+   * 更新する行はバージョンが一致する場合のみ更新し、1行でも一致しない場合はすべての更新を取り消します。
    *
    * @param studentDetail 受講生詳細
+   * @return 実際に更新した行数
+   * @throws StudentVersionConflictException   取得した後に他の更新によって変更されていた場合
+   * @throws InvalidStatusTransitionException 許可されていない申込状況の変更が含まれている場合
+   * @throws InvalidStudentCourseException    受講生に紐づかない受講生コース情報の変更が含まれている場合
    */
   @Transactional
-  public void updateStudent(StudentDetail studentDetail) {
+  public StudentUpdateResult updateStudent(StudentDetail studentDetail) {
+    Student student = studentDetail.getStudent();
+    StudentDetail storedDetail = loadStudent(student.getId());
+
+    // 受講生コース情報と申込状況の変更は、データベースを更新する前にすべて確認する。
+    List<StudentCourse> changedStudentCourseList = changedRows(
+        storedDetail.getStudentCourseList(), studentDetail.getStudentCourseList(),
+        StudentCourse::getId, StudentCourse::getCourseName);
+    checkStudentCourses(storedDetail.getStudentCourseList(), changedStudentCourseList);
+    List<CourseStatus> changedCourseStatusList = changedRows(
+        storedDetail.getCourseStatusList(), studentDetail.getCourseStatusList(),
+        CourseStatus::getId, CourseStatus::getStatus);
+    checkStatusTransitions(storedDetail.getCourseStatusList(), changedCourseStatusList);
+
     // 受講生の更新を行う。
-    repository.updateStudent(studentDetail.getStudent());
+    Set<String> changedColumns = changedStudentColumns(storedDetail.getStudent(), student);
+    int studentCount = changedColumns.isEmpty()
+        ? 0
+        : repository.updateStudentColumns(student, changedColumns);
+    checkVersion(student.getId(), studentCount, changedColumns.isEmpty() ? 0 : 1);
 
     // 受講生コース情報の更新を行う。
-    studentDetail.getStudentCourseList().forEach(studentCourse -> {
-      repository.updateStudentCourse(studentCourse);
-    });
+    int studentCourseCount = changedStudentCourseList.isEmpty()
+        ? 0
+        : repository.updateStudentCourseNames(changedStudentCourseList);
+    checkVersion(student.getId(), studentCourseCount, changedStudentCourseList.size());
 
     // 申込状況の更新を行う。
-    studentDetail.getCourseStatusList().forEach(courseStatus -> {
-      repository.updateCourseStatus(courseStatus);
-    });
+    int courseStatusCount = changedCourseStatusList.isEmpty()
+        ? 0
+        : repository.updateCourseStatusList(changedCourseStatusList);
+    checkVersion(student.getId(), courseStatusCount, changedCourseStatusList.size());
+
+    StudentUpdateResult result = new StudentUpdateResult(studentCount, studentCourseCount,
+        courseStatusCount);
+    if (result.getTotalCount() > 0) {
+      publishStudentChanged(List.of(studentDetail));
+    }
+    return result;
+  }
+
+  /**
+   * 論理削除済みの受講生を、受講生IDの昇順に指定した件数まで、受講生コース情報・申込状況とともにアーカイブ用のテーブルへ移動します。
+   * 複製と削除は1つのトランザクションで行い、移動した受講生はコミット後にキャッシュと検索用の各索引から取り除きます。
+   *
+   * @param limit 移動する受講生の最大件数
+   * @return 移動した行数
+   */
+  @Transactional
+  public StudentArchiveResult archiveDeletedStudents(int limit) {
+    List<String> studentIds = repository.searchDeletedStudentIdsForUpdate(limit);
+    if (studentIds.isEmpty()) {
+      return new StudentArchiveResult();
+    }
+
+    // 複製を行う。受講生コース情報を介して検索する申込状況から先に複製する。
+    StudentArchiveResult result = new StudentArchiveResult();
+    result.setCourseStatusCount(repository.archiveCourseStatus(studentIds));
+    result.setStudentCourseCount(repository.archiveStudentCourses(studentIds));
+    result.setStudentCount(repository.archiveStudents(studentIds));
+
+    // 削除を行う。外部キーで参照される側の行は最後に削除する。
+    repository.deleteCourseStatusByStudentIds(studentIds);
+    repository.deleteStudentCoursesByStudentIds(studentIds);
+    repository.deleteStudents(studentIds);
+
+    eventPublisher.publishEvent(new StudentChangedEvent(studentIds));
+    return result;
+  }
+
+  /**
+   * 変更する受講生コース情報が、この受講生に紐づくものかを確認します。
+   * 他の受講生の受講生コース情報を変更すると、その受講生のキャッシュや索引が古いまま残るので変更できません。
+   *
+   * @param storedList  データベース上の受講生コース情報のリスト
+   * @param changedList 値が変わった受講生コース情報のリスト
+   */
+  private void checkStudentCourses(List<StudentCourse> storedList,
+      List<StudentCourse> changedList) {
+    Set<String> storedIds = storedList.stream()
+        .map(StudentCourse::getId)
+        .collect(Collectors.toSet());
+    for (StudentCourse changed : changedList) {
+      if (!storedIds.contains(changed.getId())) {
+        throw new InvalidStudentCourseException(
+            "受講生に紐づかない受講生コース情報は変更できません。(受講生コース情報ID：" + changed.getId() + ")");
+      }
+    }
+  }
+
+  /**
+   * 申込状況の変更が許可されたものかを確認します。 この受講生に紐づかない申込状況は変更前の状態が分からないので変更できません。
+   *
+   * @param storedList  データベース上の申込状況のリスト
+   * @param changedList 値が変わった申込状況のリスト
+   */
+  private void checkStatusTransitions(List<CourseStatus> storedList,
+      List<CourseStatus> changedList) {
+    Map<String, ApplicationStatus> storedStatuses = new HashMap<>();
+    for (CourseStatus stored : storedList) {
+      storedStatuses.put(stored.getId(), stored.getStatus());
+    }
+    for (CourseStatus changed : changedList) {
+      ApplicationStatus storedStatus = storedStatuses.get(changed.getId());
+      if (Objects.isNull(storedStatus)) {
+        throw new InvalidStatusTransitionException(
+            "受講生に紐づかない申込状況は変更できません。(申込状況ID：" + changed.getId() + ")");
+      }
+      if (!storedStatus.canTransitionTo(changed.getStatus())) {
+        throw new InvalidStatusTransitionException("申込状況を" + storedStatus.getLabel() + "から"
+            + (Objects.isNull(changed.getStatus()) ? "未設定" : changed.getStatus().getLabel())
+            + "に変更することはできません。(申込状況ID：" + changed.getId() + ")");
+      }
+    }
+  }
+
+  /**
+   * 更新した行数が更新しようとした行数に満たない場合は、バージョンが一致しない行があったので例外をスローします。
+   *
+   * @param id            受講生ID
+   * @param updatedCount  更新した行数
+   * @param expectedCount 更新しようとした行数
+   */
+  private void checkVersion(String id, int updatedCount, int expectedCount) {
+    if (updatedCount < expectedCount) {
+      throw new StudentVersionConflictException(
+          "他の更新によって変更されています。最新の受講生詳細を取得してから更新してください。(ID：" + id + ")");
+    }
+  }
+
+  /**
+   * 受講生の項目のうち、データベース上の値から変わったもののプロパティ名を返します。
+   *
+   * @param stored    データベース上の受講生
+   * @param requested 更新内容の受講生
+   * @return 値が変わった項目のプロパティ名
+   */
+  private Set<String> changedStudentColumns(Student stored, Student requested) {
+    Set<String> changedColumns = new LinkedHashSet<>();
+    for (Entry<String, Function<Student, Object>> column : STUDENT_COLUMNS.entrySet()) {
+      if (!Objects.equals(column.getValue().apply(stored), column.getValue().apply(requested))) {
+        changedColumns.add(column.getKey());
+      }
+    }
+    return changedColumns;
+  }
+
+  /**
+   * 更新内容の行のうち、データベース上の同じIDの行から値が変わったものを返します。 IDが null の行は更新できないので除きます。
+   *
+   * @param storedList    データベース上の行のリスト
+   * @param requestedList 更新内容の行のリスト(null の場合は更新なし)
+   * @param idGetter      IDの取得方法
+   * @param valueGetter   比較する値の取得方法
+   * @return 値が変わった行のリスト
+   */
+  private <T> List<T> changedRows(List<T> storedList, List<T> requestedList,
+      Function<T, String> idGetter, Function<T, Object> valueGetter) {
+    if (Objects.isNull(requestedList)) {
+      return List.of();
+    }
+    Map<String, Object> storedValues = new HashMap<>();
+    for (T stored : storedList) {
+      storedValues.put(idGetter.apply(stored), valueGetter.apply(stored));
+    }
+    return requestedList.stream()
+        .filter(requested -> Objects.nonNull(idGetter.apply(requested)))
+        .filter(requested -> !storedValues.containsKey(idGetter.apply(requested))
+            || !Objects.equals(storedValues.get(idGetter.apply(requested)),
+            valueGetter.apply(requested)))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 受講生詳細が登録・更新されたことを通知します。 受け取った側ではコミット後に読み取り用のデータを更新します。
+   *
+   * @param studentDetailList 登録・更新した受講生詳細のリスト
+   */
+  private void publishStudentChanged(List<StudentDetail> studentDetailList) {
+    eventPublisher.publishEvent(new StudentChangedEvent(studentDetailList.stream()
+        .map(studentDetail -> studentDetail.getStudent().getId())
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList())));
   }
 }
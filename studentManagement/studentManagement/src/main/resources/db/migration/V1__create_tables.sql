@@ -1,3 +1,6 @@
+-- 受講生管理のテーブル
+-- マイグレーションを導入する前の本番環境のテーブル定義です。
+-- 既存のデータベースでは spring.flyway.baseline-on-migrate によりこのバージョンを適用済みとして扱います。
 CREATE TABLE IF NOT EXISTS students (
     id INT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(50) NOT NULL,
@@ -15,13 +18,13 @@ CREATE TABLE IF NOT EXISTS students_courses (
     id INT AUTO_INCREMENT PRIMARY KEY,
     student_id VARCHAR(36) NOT NULL,
     course_name VARCHAR(50) NOT NULL,
-    course_start_at TIMESTAMP,
-    course_end_at TIMESTAMP
+    course_start_at TIMESTAMP NULL,
+    course_end_at TIMESTAMP NULL
 );
 
-CREATE TABLE course_status (
-    id INT PRIMARY KEY AUTO_INCREMENT,
+CREATE TABLE IF NOT EXISTS course_status (
+    id INT AUTO_INCREMENT PRIMARY KEY,
     student_course_id INT NOT NULL,
     status VARCHAR(50) NOT NULL,
-    FOREIGN KEY (student_course_id) REFERENCES students_courses(id)
-);
\ No newline at end of file
+    FOREIGN KEY (student_course_id) REFERENCES students_courses (id)
+);
@@ -0,0 +1,6 @@
+-- 受講生のカナ名を正規化したキーを保持し、前方一致の検索にインデックスを使えるようにします。
+-- 正規化(NFKC、ひらがな→カタカナ、長音記号の統一など)は SQL では再現できないため、
+-- 既存の受講生の値はアプリケーションの起動時に StudentService#backfillKanaNameNormalized で埋めます。
+ALTER TABLE students ADD COLUMN kananame_normalized VARCHAR(50);
+
+CREATE INDEX idx_students_kananame_normalized ON students (kananame_normalized);
@@ -0,0 +1,5 @@
+-- 楽観的排他制御に使用するバージョンを追加します。
+-- 既存の行は DEFAULT により 0 で埋まります。
+ALTER TABLE students ADD COLUMN version INT NOT NULL DEFAULT 0;
+ALTER TABLE students_courses ADD COLUMN version INT NOT NULL DEFAULT 0;
+ALTER TABLE course_status ADD COLUMN version INT NOT NULL DEFAULT 0;
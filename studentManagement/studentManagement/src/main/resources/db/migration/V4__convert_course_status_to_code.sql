@@ -0,0 +1,17 @@
+-- 申込状況を文字列から ApplicationStatus のコード(TINYINT)に変換します。
+-- 仮申込 = 1、本申込 = 2、受講中 = 3、受講終了 = 4
+-- それ以外の文字列がある場合は NOT NULL の変更で失敗するので、適用前に確認してください。
+ALTER TABLE course_status ADD COLUMN status_code TINYINT;
+
+UPDATE course_status SET status_code = CASE status
+    WHEN '仮申込' THEN 1
+    WHEN '本申込' THEN 2
+    WHEN '受講中' THEN 3
+    WHEN '受講終了' THEN 4
+END;
+
+ALTER TABLE course_status DROP COLUMN status;
+ALTER TABLE course_status RENAME COLUMN status_code TO status;
+ALTER TABLE course_status MODIFY COLUMN status TINYINT NOT NULL;
+
+CREATE INDEX idx_course_status_status ON course_status (status);
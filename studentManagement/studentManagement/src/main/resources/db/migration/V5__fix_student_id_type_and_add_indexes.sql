@@ -0,0 +1,20 @@
+-- 受講生コース情報の受講生IDを受講生のIDと同じ INT にし、外部キーを設定します。
+-- 文字列と数値の比較ではインデックスを使えないため、受講生ごとのコース情報の検索や結合が全件走査になっていました。
+-- 数字以外の受講生IDや、存在しない受講生の受講生IDがある場合は失敗するので、適用前に確認してください。
+ALTER TABLE students_courses MODIFY COLUMN student_id INT NOT NULL;
+
+CREATE INDEX idx_students_courses_student_id ON students_courses (student_id);
+
+ALTER TABLE students_courses
+    ADD CONSTRAINT fk_students_courses_student_id
+    FOREIGN KEY (student_id) REFERENCES students (id);
+
+-- 受講生コース情報ごとの申込状況の検索と結合に使用します。
+-- MySQL では外部キーのために自動で作成されたインデックスは、このインデックスに置き換わります。
+CREATE INDEX idx_course_status_student_course_id ON course_status (student_course_id);
+
+-- 受講生の検索条件に使用します。
+CREATE INDEX idx_students_is_deleted ON students (is_deleted);
+CREATE INDEX idx_students_address ON students (address);
+CREATE INDEX idx_students_gender ON students (gender);
+CREATE INDEX idx_students_age ON students (age);
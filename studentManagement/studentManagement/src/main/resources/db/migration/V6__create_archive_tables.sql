@@ -0,0 +1,40 @@
+-- 論理削除済みの受講生とその受講生コース情報・申込状況を移動するアーカイブ用のテーブル
+-- 通常のテーブルと同じIDで保持します。 通常のテーブルから削除したIDは再び採番されないので、IDは重複しません。
+CREATE TABLE IF NOT EXISTS students_archive (
+    id INT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    kananame VARCHAR(50) NOT NULL,
+    kananame_normalized VARCHAR(50),
+    nickname VARCHAR(50),
+    email VARCHAR(50) NOT NULL,
+    address VARCHAR(50),
+    age INT,
+    gender VARCHAR(10),
+    remark TEXT,
+    is_deleted BOOLEAN,
+    version INT NOT NULL DEFAULT 0,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS students_courses_archive (
+    id INT PRIMARY KEY,
+    student_id INT NOT NULL,
+    course_name VARCHAR(50) NOT NULL,
+    course_start_at TIMESTAMP NULL,
+    course_end_at TIMESTAMP NULL,
+    version INT NOT NULL DEFAULT 0,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_students_courses_archive_student_id ON students_courses_archive (student_id);
+
+CREATE TABLE IF NOT EXISTS course_status_archive (
+    id INT PRIMARY KEY,
+    student_course_id INT NOT NULL,
+    status TINYINT NOT NULL,
+    version INT NOT NULL DEFAULT 0,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_course_status_archive_student_course_id
+    ON course_status_archive (student_course_id);
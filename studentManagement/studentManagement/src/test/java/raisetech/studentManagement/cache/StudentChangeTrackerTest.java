@@ -0,0 +1,59 @@
+package raisetech.studentManagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import raisetech.studentManagement.data.CourseStatus;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+
+class StudentChangeTrackerTest {
+
+  private final StudentChangeTracker sut = new StudentChangeTracker();
+
+  @Test
+  void 一覧のETag_受講生詳細が変更されるまで同じ値が返り変更されると変わること() {
+    // 準備
+    String first = sut.listETag();
+    String second = sut.listETag();
+    sut.recordChange();
+    String afterChange = sut.listETag();
+
+    // 検証
+    assertThat(first).isEqualTo(second).startsWith("\"").endsWith("\"");
+    assertThat(afterChange).isNotEqualTo(first);
+  }
+
+  @Test
+  void 受講生詳細のETag_バージョンが同じ場合は同じ値になること() {
+    // 検証
+    assertThat(sut.detailETag(createStudentDetail(0, 0)))
+        .isEqualTo(sut.detailETag(createStudentDetail(0, 0)));
+  }
+
+  @Test
+  void 受講生詳細のETag_受講生か申込状況のバージョンが変わると値が変わること() {
+    // 準備
+    String original = sut.detailETag(createStudentDetail(0, 0));
+
+    // 検証
+    assertThat(sut.detailETag(createStudentDetail(1, 0))).isNotEqualTo(original);
+    assertThat(sut.detailETag(createStudentDetail(0, 1))).isNotEqualTo(original);
+  }
+
+  private StudentDetail createStudentDetail(int studentVersion, int statusVersion) {
+    Student student = new Student();
+    student.setId("1");
+    student.setVersion(studentVersion);
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setId("10");
+    CourseStatus courseStatus = new CourseStatus();
+    courseStatus.setId("100");
+    courseStatus.setVersion(statusVersion);
+    return new StudentDetail(student, new ArrayList<>(List.of(studentCourse)),
+        new ArrayList<>(List.of(courseStatus)));
+  }
+}
@@ -0,0 +1,133 @@
+package raisetech.studentManagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.converter.StudentConverter;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.event.StudentChangedEvent;
+import raisetech.studentManagement.exception.StudentNotFoundException;
+
+class StudentDetailCacheTest {
+
+  private StudentManagementProperties properties;
+
+  private StudentDetailCache sut;
+
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void before() {
+    properties = new StudentManagementProperties();
+    sut = new StudentDetailCache(new StudentConverter(), properties);
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  void 受講生詳細の取得_2回目はキャッシュから取得され読み込みが行われないこと() {
+    // 準備
+    sut.get("1", this::load);
+    StudentDetail actual = sut.get("1", this::load);
+
+    // 検証
+    assertThat(actual.getStudent().getName()).isEqualTo("受講生1");
+    assertThat(loadCount.get()).isEqualTo(1);
+    assertThat(sut.stats().getHitCount()).isEqualTo(1);
+    assertThat(sut.stats().getMissCount()).isEqualTo(1);
+    assertThat(sut.stats().getSize()).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生詳細の取得_取得した受講生詳細を変更してもキャッシュの内容が変わらないこと() {
+    // 準備
+    StudentDetail first = sut.get("1", this::load);
+    first.getStudent().setName("変更後");
+    first.getStudentCourseList().getFirst().setCourseName("変更後");
+    first.getStudentCourseList().add(new StudentCourse());
+
+    StudentDetail actual = sut.get("1", this::load);
+
+    // 検証
+    assertThat(actual.getStudent().getName()).isEqualTo("受講生1");
+    assertThat(actual.getStudentCourseList()).extracting("courseName")
+        .containsExactly("Javaコース");
+  }
+
+  @Test
+  void 受講生詳細の取得_読み込み元の受講生詳細を変更してもキャッシュの内容が変わらないこと() {
+    // 準備
+    StudentDetail loaded = load("1");
+    sut.get("1", id -> loaded);
+    loaded.getStudent().setName("変更後");
+
+    StudentDetail actual = sut.get("1", this::load);
+
+    // 検証
+    assertThat(actual.getStudent().getName()).isEqualTo("受講生1");
+  }
+
+  @Test
+  void 受講生詳細の取得_読み込みで例外がスローされた場合はキャッシュに保持されないこと() {
+    // 準備
+    Function<String, StudentDetail> notFound = id -> {
+      throw new StudentNotFoundException("(ID：" + id + ")");
+    };
+
+    assertThrows(StudentNotFoundException.class, () -> sut.get("9", notFound));
+    StudentDetail actual = sut.get("9", this::load);
+
+    // 検証
+    assertThat(actual.getStudent().getId()).isEqualTo("9");
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生詳細の変更通知_通知された受講生のみキャッシュから破棄されること() {
+    // 準備
+    sut.get("1", this::load);
+    sut.get("2", this::load);
+
+    sut.onStudentChanged(new StudentChangedEvent(List.of("1")));
+    sut.get("1", this::load);
+    sut.get("2", this::load);
+
+    // 検証
+    assertThat(loadCount.get()).isEqualTo(3);
+    assertThat(sut.stats().getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生詳細の取得_最大件数を超えた場合は破棄され破棄件数が記録されること() {
+    // 準備
+    properties.getCache().setMaximumSize(1);
+    sut = new StudentDetailCache(new StudentConverter(), properties);
+
+    sut.get("1", this::load);
+    sut.get("2", this::load);
+    sut.cleanUp();
+
+    // 検証
+    assertThat(sut.stats().getEvictionCount()).isEqualTo(1);
+    assertThat(sut.stats().getSize()).isEqualTo(1);
+  }
+
+  private StudentDetail load(String id) {
+    loadCount.incrementAndGet();
+    Student student = new Student();
+    student.setId(id);
+    student.setName("受講生" + id);
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setStudentId(id);
+    studentCourse.setCourseName("Javaコース");
+    return new StudentDetail(student, new ArrayList<>(List.of(studentCourse)), new ArrayList<>());
+  }
+}
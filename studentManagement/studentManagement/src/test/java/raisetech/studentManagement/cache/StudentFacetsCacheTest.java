@@ -0,0 +1,134 @@
+package raisetech.studentManagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.dto.StudentFacets;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+import raisetech.studentManagement.event.StudentChangedEvent;
+
+class StudentFacetsCacheTest {
+
+  private StudentFacetsCache sut;
+
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentFacetsCache(new StudentManagementProperties());
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  void 集計結果の取得_同じ検索条件の2回目はキャッシュから取得され集計が行われないこと() {
+    // 準備
+    sut.get(condition("東京"), this::load);
+    StudentFacets actual = sut.get(condition("東京"), this::load);
+
+    // 検証
+    assertThat(actual.getAddressCounts()).containsExactly(Map.entry("東京", 1L));
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 集計結果の取得_検索条件が異なる場合は別々に集計されること() {
+    // 準備
+    sut.get(condition("東京"), this::load);
+    StudentFacets actual = sut.get(condition("大阪"), this::load);
+
+    // 検証
+    assertThat(actual.getAddressCounts()).containsExactly(Map.entry("大阪", 1L));
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  void 集計結果の取得_取得後に検索条件を変更してもキャッシュのキーが変わらないこと() {
+    // 準備
+    StudentSearchCondition condition = condition("東京");
+    sut.get(condition, this::load);
+    condition.setAddress("大阪");
+
+    StudentFacets actual = sut.get(condition("東京"), this::load);
+
+    // 検証
+    assertThat(actual.getAddressCounts()).containsExactly(Map.entry("東京", 1L));
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 集計結果の取得_取得した集計結果は変更できないこと() {
+    // 準備
+    StudentFacets actual = sut.get(condition("東京"), this::load);
+
+    // 検証
+    assertThrows(UnsupportedOperationException.class,
+        () -> actual.getAddressCounts().put("大阪", 1L));
+  }
+
+  @Test
+  void 受講生詳細の変更通知_集計結果が破棄され次の取得で再集計されること() {
+    // 準備
+    sut.get(condition("東京"), this::load);
+    sut.onStudentChanged(new StudentChangedEvent(List.of("1")));
+    sut.get(condition("東京"), this::load);
+
+    // 検証
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  void 受講生詳細の変更通知_集計中に破棄された集計結果はキャッシュに残らず次の取得で再集計されること()
+      throws Exception {
+    // 準備
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<StudentFacets> loadedWhileChanging = new AtomicReference<>();
+    Thread loader = new Thread(() -> loadedWhileChanging.set(
+        sut.get(condition("東京"), condition -> {
+          loading.countDown();
+          awaitQuietly(release);
+          return new StudentFacets(Map.of(), Map.of(), Map.of("東京", 1L));
+        })));
+    loader.start();
+    loading.await();
+
+    sut.onStudentChanged(new StudentChangedEvent(List.of("1")));
+    release.countDown();
+    loader.join();
+
+    StudentFacets actual = sut.get(condition("東京"),
+        condition -> new StudentFacets(Map.of(), Map.of(), Map.of("東京", 2L)));
+
+    // 検証
+    assertThat(loadedWhileChanging.get().getAddressCounts())
+        .containsExactly(Map.entry("東京", 1L));
+    assertThat(actual.getAddressCounts()).containsExactly(Map.entry("東京", 2L));
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private StudentSearchCondition condition(String address) {
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setAddress(address);
+    return condition;
+  }
+
+  private StudentFacets load(StudentSearchCondition condition) {
+    loadCount.incrementAndGet();
+    return new StudentFacets(Map.of(), Map.of(), Map.of(condition.getAddress(), 1L));
+  }
+}
@@ -0,0 +1,142 @@
+package raisetech.studentManagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.domain.StudentDetail;
+
+class StudentListSnapshotTest {
+
+  private StudentListSnapshot sut;
+
+  private AtomicInteger loadCount;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentListSnapshot();
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  void 一覧の取得_一度だけ読み込まれ受講生IDの昇順に並んだ変更できない一覧が返却されること() {
+    // 準備
+    List<StudentDetail> first = sut.get(() -> load("10", "2", "1"));
+    List<StudentDetail> second = sut.get(() -> load("3"));
+
+    // 検証
+    assertThat(loadCount.get()).isEqualTo(1);
+    assertThat(second).isSameAs(first);
+    assertThat(first).extracting(studentDetail -> studentDetail.getStudent().getId())
+        .containsExactly("1", "2", "10");
+    assertThrows(UnsupportedOperationException.class, () -> first.add(new StudentDetail()));
+  }
+
+  @Test
+  void 一覧の取得_キャリアスレッドの数だけ読み込みを待っていても読み込み中の並行検索が実行されること()
+      throws Exception {
+    // 準備
+    int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+        Runtime.getRuntime().availableProcessors());
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread loader = Thread.ofVirtual().start(() -> sut.get(() -> {
+      loading.countDown();
+      awaitQuietly(release);
+      return CompletableFuture.supplyAsync(() -> load("1"),
+          runnable -> Thread.ofVirtual().start(runnable)).join();
+    }));
+    loading.await();
+
+    List<Thread> waiters = new ArrayList<>();
+    for (int i = 0; i < carriers; i++) {
+      waiters.add(Thread.ofVirtual().start(() -> sut.get(() -> load("2"))));
+    }
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (System.nanoTime() < deadline && waiters.stream()
+        .anyMatch(waiter -> waiter.getState() != Thread.State.WAITING
+            && waiter.getState() != Thread.State.BLOCKED)) {
+      Thread.sleep(1);
+    }
+    release.countDown();
+
+    // 検証
+    assertThat(loader.join(Duration.ofSeconds(10))).isTrue();
+    for (Thread waiter : waiters) {
+      assertThat(waiter.join(Duration.ofSeconds(10))).isTrue();
+    }
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 差し替え_変更された受講生のみが差し替えられ追加された受講生はID順の位置に入ること() {
+    // 準備
+    List<StudentDetail> before = sut.get(() -> load("1", "2", "4"));
+
+    sut.patch(List.of("2", "3"), studentIds -> load("2", "3"));
+    List<StudentDetail> actual = sut.get(() -> load());
+
+    // 検証
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudent().getId())
+        .containsExactly("1", "2", "3", "4");
+    assertThat(actual.get(0)).isSameAs(before.get(0));
+    assertThat(actual.get(1)).isNotSameAs(before.get(1));
+    assertThat(actual.get(3)).isSameAs(before.get(2));
+    assertThat(before).extracting(studentDetail -> studentDetail.getStudent().getId())
+        .containsExactly("1", "2", "4");
+  }
+
+  @Test
+  void 差し替え_読み込み直した結果に含まれない受講生は一覧から除かれること() {
+    // 準備
+    sut.get(() -> load("1", "2"));
+
+    sut.patch(List.of("2"), studentIds -> List.of());
+
+    // 検証
+    assertThat(sut.get(() -> load())).extracting(studentDetail -> studentDetail.getStudent().getId())
+        .containsExactly("1");
+  }
+
+  @Test
+  void 差し替え_まだ読み込んでいない場合は何も読み込まれないこと() {
+    // 準備
+    List<Collection<String>> requested = new ArrayList<>();
+
+    sut.patch(List.of("1"), studentIds -> {
+      requested.add(studentIds);
+      return load("1");
+    });
+
+    // 検証
+    assertThat(requested).isEmpty();
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private List<StudentDetail> load(String... ids) {
+    loadCount.incrementAndGet();
+    List<StudentDetail> studentDetailList = new ArrayList<>();
+    for (String id : ids) {
+      Student student = new Student();
+      student.setId(id);
+      studentDetailList.add(new StudentDetail(student, List.of(), List.of()));
+    }
+    return studentDetailList;
+  }
+}
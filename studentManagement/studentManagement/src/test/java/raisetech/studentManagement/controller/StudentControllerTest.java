@@ -3,15 +3,23 @@ package raisetech.studentManagement.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -19,16 +27,39 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.http.MediaType;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import raisetech.studentManagement.data.ApplicationStatus;
 import raisetech.studentManagement.data.CourseStatus;
 import raisetech.studentManagement.data.Student;
 import raisetech.studentManagement.data.StudentCourse;
 import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentArchiveResult;
+import raisetech.studentManagement.dto.StudentBulkRegisterResult;
+import raisetech.studentManagement.dto.StudentCacheStats;
+import raisetech.studentManagement.dto.StudentFacets;
+import raisetech.studentManagement.dto.StudentImportResult;
+import raisetech.studentManagement.dto.StudentPage;
+import raisetech.studentManagement.dto.StudentRegisterResult;
+import raisetech.studentManagement.dto.StudentUpdateResult;
+import raisetech.studentManagement.exception.InvalidStatusTransitionException;
+import raisetech.studentManagement.exception.InvalidStudentCourseException;
+import raisetech.studentManagement.exception.StudentVersionConflictException;
+import raisetech.studentManagement.service.StudentArchiveService;
+import raisetech.studentManagement.service.StudentBulkRegisterService;
+import raisetech.studentManagement.service.StudentImportService;
 import raisetech.studentManagement.service.StudentService;
 
 @WebMvcTest(StudentController.class)
@@ -41,6 +72,15 @@ class StudentControllerTest {
   @MockBean
   private StudentService service;
 
+  @MockBean
+  private StudentBulkRegisterService bulkRegisterService;
+
+  @MockBean
+  private StudentImportService importService;
+
+  @MockBean
+  private StudentArchiveService archiveService;
+
   private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
   @Test
@@ -55,6 +95,131 @@ class StudentControllerTest {
     verify(service, times(1)).searchStudentList();
   }
 
+  @Test
+  void 受講生詳細の一覧のページ検索が実行できて次ページのカーソルがヘッダーで返ってくること()
+      throws Exception {
+    // 準備
+    when(service.searchStudentList(2, null)).thenReturn(
+        new StudentPage(List.of(new StudentDetail()), "Mg"));
+    mockMvc.perform(get("/studentList").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Next-Cursor", "Mg"))
+        .andExpect(content().json("[{\"student\":null,\"studentCourseList\":null}]"));
+
+    // 検証
+    verify(service, times(1)).searchStudentList(2, null);
+  }
+
+  @Test
+  void 受講生詳細の一覧検索でETagが返ってくること() throws Exception {
+    // 準備
+    when(service.getStudentListETag()).thenReturn("\"1-0\"");
+    when(service.searchStudentList()).thenReturn(List.of());
+
+    mockMvc.perform(get("/studentList"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"1-0\""));
+  }
+
+  @Test
+  void 受講生詳細の一覧検索でETagが一致する場合は一覧を取得せずに304が返ってくること() throws Exception {
+    // 準備
+    when(service.getStudentListETag()).thenReturn("\"1-0\"");
+
+    mockMvc.perform(get("/studentList").header("If-None-Match", "\"1-0\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    // 検証
+    verify(service, never()).searchStudentList();
+  }
+
+  @Test
+  void 受講生詳細の検索でETagが一致する場合は304が返ってくること() throws Exception {
+    // 準備
+    StudentDetail studentDetail = new StudentDetail();
+    when(service.searchStudent("1")).thenReturn(studentDetail);
+    when(service.getStudentETag(studentDetail)).thenReturn("\"1-2-0\"");
+
+    mockMvc.perform(get("/student/1").header("If-None-Match", "\"1-2-0\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", "\"1-2-0\""))
+        .andExpect(content().string(""));
+    mockMvc.perform(get("/student/1").header("If-None-Match", "\"1-1-0\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"1-2-0\""));
+  }
+
+  @Test
+  void 受講生詳細の一覧出力が実行できてNDJSON形式で返ってくること() throws Exception {
+    // 準備
+    Student student = new Student();
+    student.setId("1");
+    doAnswer(invocation -> {
+      Consumer<StudentDetail> consumer = invocation.getArgument(0);
+      consumer.accept(new StudentDetail(student, List.of(), List.of()));
+      consumer.accept(new StudentDetail());
+      return null;
+    }).when(service).exportStudentList(any());
+
+    MvcResult mvcResult = mockMvc.perform(get("/studentList/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    String actual = mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+        .andReturn().getResponse().getContentAsString();
+
+    // 検証
+    String[] lines = actual.split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{\"student\":{\"id\":\"1\"");
+    assertThat(lines[1]).startsWith("{\"student\":null");
+  }
+
+  @Test
+  void 受講生詳細の一覧出力_制限時間を過ぎた場合は次の受講生詳細を出力する前に中断されること() throws Exception {
+    // 準備
+    CountDownLatch firstWritten = new CountDownLatch(1);
+    CountDownLatch timedOut = new CountDownLatch(1);
+    CountDownLatch finished = new CountDownLatch(1);
+    AtomicReference<RuntimeException> thrown = new AtomicReference<>();
+    doAnswer(invocation -> {
+      Consumer<StudentDetail> consumer = invocation.getArgument(0);
+      try {
+        consumer.accept(new StudentDetail());
+        firstWritten.countDown();
+        try {
+          timedOut.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          // 制限時間を過ぎると割り込まれるが、割り込みに応じない検索を想定して出力を続ける。
+          timedOut.await(5, TimeUnit.SECONDS);
+        }
+        consumer.accept(new StudentDetail());
+      } catch (RuntimeException e) {
+        thrown.set(e);
+      } finally {
+        finished.countDown();
+      }
+      return null;
+    }).when(service).exportStudentList(any());
+
+    MvcResult mvcResult = mockMvc.perform(get("/studentList/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+    assertThat(firstWritten.await(5, TimeUnit.SECONDS)).isTrue();
+    for (AsyncListener listener : asyncContext.getListeners()) {
+      listener.onTimeout(new AsyncEvent(asyncContext));
+    }
+    timedOut.countDown();
+
+    // 検証
+    assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(asyncContext.getTimeout()).isEqualTo(600_000L);
+    assertThat(thrown.get()).isInstanceOf(AsyncRequestTimeoutException.class);
+  }
+
   @Test
   void 受講生の検索が実行できて空で返ってくること() throws Exception {
     // 準備
@@ -123,8 +288,169 @@ class StudentControllerTest {
   }
 
   @Test
-  void 受講生詳細の更新が実行できて空で返ってくること() throws Exception {
+  void 受講生詳細の一括登録が実行できて1件ごとの登録結果が返ってくること() throws Exception {
     // 準備
+    when(bulkRegisterService.registerStudentList(any())).thenReturn(
+        new StudentBulkRegisterResult(1, 1, List.of(
+            new StudentRegisterResult(0, true, "6", List.of()),
+            new StudentRegisterResult(1, false, null, List.of("student.name：名前を入力してください。")))));
+
+    mockMvc.perform(post("/registerStudents").contentType(MediaType.APPLICATION_JSON).content(
+            """
+                [
+                  {"student": {"name": "江並公史"}, "studentCourseList": []},
+                  {"student": {"name": ""}, "studentCourseList": []}
+                ]
+                """
+        ))
+        .andExpect(status().isOk())
+        .andExpect(content().json(
+            """
+                {"successCount": 1, "failureCount": 1,
+                 "resultList": [{"index": 0, "success": true, "studentId": "6"},
+                                {"index": 1, "success": false}]}
+                """));
+
+    // 検証
+    verify(bulkRegisterService, times(1)).registerStudentList(any());
+  }
+
+  @Test
+  void 受講生詳細のキャッシュの統計情報が取得できること() throws Exception {
+    // 準備
+    when(service.getStudentCacheStats()).thenReturn(new StudentCacheStats(3, 1, 0.75, 0, 1));
+
+    mockMvc.perform(get("/studentCache/stats"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(
+            """
+                {"hitCount": 3, "missCount": 1, "hitRate": 0.75, "evictionCount": 0, "size": 1}
+                """));
+
+    // 検証
+    verify(service, times(1)).getStudentCacheStats();
+  }
+
+  @Test
+  void アーカイブした受講生詳細の検索が実行できること() throws Exception {
+    // 準備
+    when(service.searchArchivedStudent("2")).thenReturn(new StudentDetail());
+
+    mockMvc.perform(get("/archivedStudent/2"))
+        .andExpect(status().isOk());
+
+    // 検証
+    verify(service, times(1)).searchArchivedStudent("2");
+  }
+
+  @Test
+  void アーカイブした受講生詳細の一覧検索が実行できて次ページのカーソルがヘッダーで返ってくること()
+      throws Exception {
+    // 準備
+    when(service.searchArchivedStudentList(1, null)).thenReturn(
+        new StudentPage(List.of(new StudentDetail()), "Mg"));
+
+    mockMvc.perform(get("/archivedStudentList").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Next-Cursor", "Mg"))
+        .andExpect(content().json("[{\"student\":null,\"studentCourseList\":null}]"));
+
+    // 検証
+    verify(service, times(1)).searchArchivedStudentList(1, null);
+  }
+
+  @Test
+  void 受講生のアーカイブが実行できて移動した行数が返ってくること() throws Exception {
+    // 準備
+    when(archiveService.archiveDeletedStudents()).thenReturn(new StudentArchiveResult(2, 3, 3));
+
+    mockMvc.perform(post("/archiveStudents"))
+        .andExpect(status().isOk())
+        .andExpect(content().json(
+            """
+                {"studentCount": 2, "studentCourseCount": 3, "courseStatusCount": 3}
+                """));
+
+    // 検証
+    verify(archiveService, times(1)).archiveDeletedStudents();
+  }
+
+  @Test
+  void 受講生の集計が実行できて集計結果が返ってくること() throws Exception {
+    // 準備
+    when(service.getFacets(any())).thenReturn(new StudentFacets(Map.of("本申込", 3L),
+        Map.of("Javaコース", 2L), Map.of("東京", 1L)));
+
+    mockMvc.perform(post("/students/facets")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(
+                """
+                    {"gender": "男性"}
+                    """))
+        .andExpect(status().isOk())
+        .andExpect(content().json(
+            """
+                {"statusCounts": {"本申込": 3}, "courseNameCounts": {"Javaコース": 2},
+                 "addressCounts": {"東京": 1}}
+                """));
+
+    // 検証
+    verify(service, times(1)).getFacets(any());
+  }
+
+  @Test
+  void 受講生の集計_検索条件を省略した場合も集計が実行されること() throws Exception {
+    // 準備
+    when(service.getFacets(null)).thenReturn(new StudentFacets(Map.of(), Map.of(), Map.of()));
+
+    mockMvc.perform(post("/students/facets"))
+        .andExpect(status().isOk());
+
+    // 検証
+    verify(service, times(1)).getFacets(null);
+  }
+
+  @Test
+  void 受講生詳細のCSV取り込みが実行できて取り込み結果が返ってくること() throws Exception {
+    // 準備
+    when(importService.importStudents(any(), eq(','))).thenReturn(
+        new StudentImportResult(2, 1, 1, 10, 200.0));
+
+    mockMvc.perform(post("/importStudents").contentType("text/csv").content(
+            """
+                name,kanaName,nickname,email,address,age,gender,remark,courseNames
+                江並公史,エナミコウジ,エナミ,test@example.com,奈良県,36,男性,,Javaコース
+                """
+        ))
+        .andExpect(status().isOk())
+        .andExpect(content().json(
+            """
+                {"rowCount": 2, "successCount": 1, "failureCount": 1}
+                """));
+
+    // 検証
+    verify(importService, times(1)).importStudents(any(), eq(','));
+  }
+
+  @Test
+  void 受講生詳細のTSV取り込みではタブ区切りで読み込まれること() throws Exception {
+    // 準備
+    when(importService.importStudents(any(), eq('\t'))).thenReturn(
+        new StudentImportResult(0, 0, 0, 0, 0.0));
+
+    mockMvc.perform(post("/importStudents").contentType("text/tab-separated-values")
+            .content("name\tkanaName\n"))
+        .andExpect(status().isOk());
+
+    // 検証
+    verify(importService, times(1)).importStudents(any(), eq('\t'));
+  }
+
+  @Test
+  void 受講生詳細の更新が実行できて更新した行数が返ってくること() throws Exception {
+    // 準備
+    when(service.updateStudent(any())).thenReturn(new StudentUpdateResult(1, 0, 1));
+
     mockMvc.perform(put("/updateStudent").contentType(MediaType.APPLICATION_JSON).content(
             """
                           {
@@ -158,12 +484,77 @@ class StudentControllerTest {
                         }
                 """
         ))
-        .andExpect(status().isOk());
+        .andExpect(status().isOk())
+        .andExpect(content().json(
+            """
+                {"studentCount": 1, "studentCourseCount": 0, "courseStatusCount": 1,
+                 "totalCount": 2}
+                """));
 
     // 検証
     verify(service, times(1)).updateStudent(any());
   }
 
+  @Test
+  void 受講生詳細の更新で他の更新と競合した場合にステータスが409で返ってくること() throws Exception {
+    // 準備
+    when(service.updateStudent(any())).thenThrow(new StudentVersionConflictException("競合"));
+
+    mockMvc.perform(put("/updateStudent").contentType(MediaType.APPLICATION_JSON).content(
+            """
+                {"student": {"id": "1", "name": "山田太郎", "version": 0},
+                 "studentCourseList": [], "courseStatusList": []}
+                """))
+        .andExpect(status().isConflict())
+        .andExpect(content().string("競合"));
+  }
+
+  @Test
+  void 受講生詳細の更新で許可されていない申込状況に変更した場合にステータスが400で返ってくること()
+      throws Exception {
+    // 準備
+    when(service.updateStudent(any())).thenThrow(
+        new InvalidStatusTransitionException("変更できません"));
+
+    mockMvc.perform(put("/updateStudent").contentType(MediaType.APPLICATION_JSON).content(
+            """
+                {"student": {"id": "1"}, "studentCourseList": [],
+                 "courseStatusList": [{"id": "1", "status": "受講終了"}]}
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().string("変更できません"));
+  }
+
+  @Test
+  void 受講生詳細の更新で受講生に紐づかない受講生コース情報を変更した場合にステータスが400で返ってくること()
+      throws Exception {
+    // 準備
+    when(service.updateStudent(any())).thenThrow(
+        new InvalidStudentCourseException("変更できません"));
+
+    mockMvc.perform(put("/updateStudent").contentType(MediaType.APPLICATION_JSON).content(
+            """
+                {"student": {"id": "1"},
+                 "studentCourseList": [{"id": "99", "courseName": "Javaコース"}],
+                 "courseStatusList": []}
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().string("変更できません"));
+  }
+
+  @Test
+  void 受講生詳細の更新で存在しない申込状況を指定した場合にステータスが400で返ってくること() throws Exception {
+    mockMvc.perform(put("/updateStudent").contentType(MediaType.APPLICATION_JSON).content(
+            """
+                {"student": {"id": "1"}, "studentCourseList": [],
+                 "courseStatusList": [{"id": "1", "status": "キャンセル"}]}
+                """))
+        .andExpect(status().isBadRequest());
+
+    // 検証
+    verify(service, never()).updateStudent(any());
+  }
+
   @Test
   void 受講生詳細の例外APIが実行できてステータスが400で返ってくること() throws Exception {
     mockMvc.perform(get("/exception"))
@@ -271,7 +662,7 @@ class StudentControllerTest {
   void 受講生詳細の申込状況で適切な値を入力した時に入力チェックに異常が発生しないこと() {
     // 準備
     CourseStatus courseStatus = new CourseStatus();
-    courseStatus.setStatus("本申込");
+    courseStatus.setStatus(ApplicationStatus.CONFIRMED);
 
     Set<ConstraintViolation<CourseStatus>> violations = validator.validate(courseStatus);
 
@@ -285,7 +676,7 @@ class StudentControllerTest {
     CourseStatus courseStatus = new CourseStatus();
     courseStatus.setId("test");
     courseStatus.setStudentCourseId("test");
-    courseStatus.setStatus("");
+    courseStatus.setStatus(null);
 
     Set<ConstraintViolation<CourseStatus>> violations = validator.validate(courseStatus);
 
@@ -0,0 +1,40 @@
+package raisetech.studentManagement.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class KanaNormalizerTest {
+
+  @Test
+  void 正規化_半角カナが全角カナに変換され濁点が合成されること() {
+    assertThat(KanaNormalizer.normalize("ﾔﾏﾀﾞﾀﾛｳ")).isEqualTo("ヤマダタロウ");
+    assertThat(KanaNormalizer.normalize("ﾊﾟｰﾄ")).isEqualTo("パート");
+  }
+
+  @Test
+  void 正規化_ひらがながカタカナに変換されること() {
+    assertThat(KanaNormalizer.normalize("すずきいちろう")).isEqualTo("スズキイチロウ");
+    assertThat(KanaNormalizer.normalize("ぁゖゝゞ")).isEqualTo("ァヶヽヾ");
+  }
+
+  @Test
+  void 正規化_長音を表す記号の揺れが長音符にそろえられること() {
+    assertThat(KanaNormalizer.normalize("コージ")).isEqualTo("コージ");
+    assertThat(KanaNormalizer.normalize("コ－ジ")).isEqualTo("コージ");
+    assertThat(KanaNormalizer.normalize("コ-ジ")).isEqualTo("コージ");
+    assertThat(KanaNormalizer.normalize("コ―ジ")).isEqualTo("コージ");
+    assertThat(KanaNormalizer.normalize("こ─じ")).isEqualTo("コージ");
+  }
+
+  @Test
+  void 正規化_全角と半角の空白が取り除かれること() {
+    assertThat(KanaNormalizer.normalize("ヤマダ　タロウ")).isEqualTo("ヤマダタロウ");
+    assertThat(KanaNormalizer.normalize(" ﾔﾏﾀﾞ ﾀﾛｳ ")).isEqualTo("ヤマダタロウ");
+  }
+
+  @Test
+  void 正規化_nullの場合はnullが返却されること() {
+    assertThat(KanaNormalizer.normalize(null)).isNull();
+  }
+}
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.data.ApplicationStatus;
 import raisetech.studentManagement.data.CourseStatus;
 import raisetech.studentManagement.data.Student;
 import raisetech.studentManagement.data.StudentCourse;
@@ -37,7 +39,7 @@ class StudentConverterTest {
     CourseStatus courseStatus = new CourseStatus();
     courseStatus.setId("1");
     courseStatus.setStudentCourseId(studentCourse.getId());
-    courseStatus.setStatus("仮申込");
+    courseStatus.setStatus(ApplicationStatus.TEMPORARY);
 
     List<Student> studentList = List.of(student);
     List<StudentCourse> studentCourseList = List.of(studentCourse);
@@ -51,7 +53,7 @@ class StudentConverterTest {
     assertThat(actualStudentDetail.getStudent().getName()).isEqualTo("江並公史");
     assertThat(actualStudentDetail.getStudentCourseList().get(0).getCourseName()).isEqualTo(
         "Javaコース");
-    assertThat(actualStudentDetail.getCourseStatusList().get(0).getStatus()).isEqualTo("仮申込");
+    assertThat(actualStudentDetail.getCourseStatusList().get(0).getStatus()).isEqualTo(ApplicationStatus.TEMPORARY);
 
   }
 
@@ -69,7 +71,7 @@ class StudentConverterTest {
     CourseStatus courseStatus = new CourseStatus();
     courseStatus.setId("1");
     courseStatus.setStudentCourseId("2");
-    courseStatus.setStatus("仮申込");
+    courseStatus.setStatus(ApplicationStatus.TEMPORARY);
 
     List<Student> studentList = List.of(student);
     List<StudentCourse> studentCourseList = List.of(studentCourse);
@@ -108,12 +110,12 @@ class StudentConverterTest {
     CourseStatus courseStatus1 = new CourseStatus();
     courseStatus1.setId("1");
     courseStatus1.setStudentCourseId(studentCourse1.getId());
-    courseStatus1.setStatus("仮申込");
+    courseStatus1.setStatus(ApplicationStatus.TEMPORARY);
 
     CourseStatus courseStatus2 = new CourseStatus();
     courseStatus2.setId("2");
     courseStatus2.setStudentCourseId(studentCourse2.getId());
-    courseStatus2.setStatus("本申込");
+    courseStatus2.setStatus(ApplicationStatus.CONFIRMED);
 
     List<Student> studentList = List.of(student);
     List<StudentCourse> studentCourseList = List.of(studentCourse1, studentCourse2);
@@ -129,8 +131,8 @@ class StudentConverterTest {
         "Javaコース");
     assertThat(actualStudentDetail.getStudentCourseList().get(1).getCourseName()).isEqualTo(
         "AWSコース");
-    assertThat(actualStudentDetail.getCourseStatusList().get(0).getStatus()).isEqualTo("仮申込");
-    assertThat(actualStudentDetail.getCourseStatusList().get(1).getStatus()).isEqualTo("本申込");
+    assertThat(actualStudentDetail.getCourseStatusList().get(0).getStatus()).isEqualTo(ApplicationStatus.TEMPORARY);
+    assertThat(actualStudentDetail.getCourseStatusList().get(1).getStatus()).isEqualTo(ApplicationStatus.CONFIRMED);
 
   }
 
@@ -146,7 +148,7 @@ class StudentConverterTest {
     CourseStatus courseStatus = new CourseStatus();
     courseStatus.setId("1");
     courseStatus.setStudentCourseId(studentCourse.getId());
-    courseStatus.setStatus("仮申込");
+    courseStatus.setStatus(ApplicationStatus.TEMPORARY);
 
     List<Student> studentList = List.of();
     List<StudentCourse> studentCourseList = List.of(studentCourse);
@@ -169,7 +171,7 @@ class StudentConverterTest {
     CourseStatus courseStatus = new CourseStatus();
     courseStatus.setId("1");
     courseStatus.setStudentCourseId("1");
-    courseStatus.setStatus("仮申込");
+    courseStatus.setStatus(ApplicationStatus.TEMPORARY);
 
     List<Student> studentList = List.of(student);
     List<StudentCourse> studentCourseList = new ArrayList<>();
@@ -212,6 +214,77 @@ class StudentConverterTest {
     assertThat(actualStudentDetail.getCourseStatusList()).isEmpty();
   }
 
+  @Test
+  void 複数の受講生を渡した場合_受講生の並び順を維持したままそれぞれの受講生コース情報および申込状況が紐づけられること() {
+
+    // 準備
+    List<Student> studentList = new ArrayList<>();
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    List<CourseStatus> courseStatusList = new ArrayList<>();
+    for (int i = 3; i >= 1; i--) {
+      Student student = createStudent();
+      student.setId(String.valueOf(i));
+      studentList.add(student);
+
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setId(String.valueOf(i * 10));
+      studentCourse.setStudentId(String.valueOf(i));
+      studentCourse.setCourseName("コース" + i);
+      studentCourseList.add(studentCourse);
+
+      CourseStatus courseStatus = new CourseStatus();
+      courseStatus.setId(String.valueOf(i));
+      courseStatus.setStudentCourseId(studentCourse.getId());
+      courseStatus.setStatus(ApplicationStatus.TEMPORARY);
+      courseStatusList.add(courseStatus);
+    }
+
+    List<StudentDetail> actual = sut.convertStudentDetails(studentList, studentCourseList,
+        courseStatusList);
+
+    // 検証
+    assertThat(actual).extracting(detail -> detail.getStudent().getId())
+        .containsExactly("3", "2", "1");
+    assertThat(actual).extracting(detail -> detail.getStudentCourseList().get(0).getCourseName())
+        .containsExactly("コース3", "コース2", "コース1");
+    assertThat(actual).extracting(detail -> detail.getCourseStatusList().get(0).getStudentCourseId())
+        .containsExactly("30", "20", "10");
+  }
+
+  @Test
+  void 受講生の件数が並列化の閾値以上の場合も_受講生の並び順を維持して受講生詳細が組み立てられること() {
+
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getConverter().setParallelThreshold(1);
+    StudentConverter parallelConverter = new StudentConverter(properties);
+
+    List<Student> studentList = new ArrayList<>();
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    for (int i = 1; i <= 1000; i++) {
+      Student student = createStudent();
+      student.setId(String.valueOf(i));
+      studentList.add(student);
+
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setId(String.valueOf(i));
+      studentCourse.setStudentId(String.valueOf(i));
+      studentCourse.setCourseName("Javaコース");
+      studentCourseList.add(studentCourse);
+    }
+
+    List<StudentDetail> actual = parallelConverter.convertStudentDetails(studentList,
+        studentCourseList, List.of());
+
+    // 検証
+    assertThat(actual).hasSize(1000);
+    for (int i = 0; i < actual.size(); i++) {
+      assertThat(actual.get(i).getStudent().getId()).isEqualTo(String.valueOf(i + 1));
+      assertThat(actual.get(i).getStudentCourseList().get(0).getStudentId())
+          .isEqualTo(String.valueOf(i + 1));
+    }
+  }
+
   /**
    * テスト用の {@link Student} オブジェクトを生成します。
    * <p>
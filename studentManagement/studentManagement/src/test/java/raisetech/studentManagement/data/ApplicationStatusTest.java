@@ -0,0 +1,50 @@
+package raisetech.studentManagement.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class ApplicationStatusTest {
+
+  @Test
+  void 申込状況の変更_同じ申込状況と1つ次の申込状況にのみ変更できること() {
+    // 検証
+    assertThat(ApplicationStatus.TEMPORARY.canTransitionTo(ApplicationStatus.TEMPORARY)).isTrue();
+    assertThat(ApplicationStatus.TEMPORARY.canTransitionTo(ApplicationStatus.CONFIRMED)).isTrue();
+    assertThat(ApplicationStatus.CONFIRMED.canTransitionTo(ApplicationStatus.IN_PROGRESS))
+        .isTrue();
+    assertThat(ApplicationStatus.IN_PROGRESS.canTransitionTo(ApplicationStatus.COMPLETED))
+        .isTrue();
+    assertThat(ApplicationStatus.TEMPORARY.canTransitionTo(ApplicationStatus.IN_PROGRESS))
+        .isFalse();
+    assertThat(ApplicationStatus.CONFIRMED.canTransitionTo(ApplicationStatus.TEMPORARY))
+        .isFalse();
+    assertThat(ApplicationStatus.COMPLETED.canTransitionTo(ApplicationStatus.TEMPORARY))
+        .isFalse();
+    assertThat(ApplicationStatus.TEMPORARY.canTransitionTo(null)).isFalse();
+  }
+
+  @Test
+  void 申込状況の変換_コードと名称から申込状況が取得できること() {
+    // 検証
+    assertThat(ApplicationStatus.fromCode(3)).isEqualTo(ApplicationStatus.IN_PROGRESS);
+    assertThat(ApplicationStatus.fromLabel("受講終了")).isEqualTo(ApplicationStatus.COMPLETED);
+    assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.fromCode(0));
+    assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.fromLabel("キャンセル"));
+  }
+
+  @Test
+  void 申込状況の変換_JSONでは名称で表されること() throws Exception {
+    // 準備
+    ObjectMapper objectMapper = new ObjectMapper();
+    CourseStatus courseStatus = objectMapper.readValue("{\"status\": \"本申込\"}",
+        CourseStatus.class);
+
+    // 検証
+    assertThat(courseStatus.getStatus()).isEqualTo(ApplicationStatus.CONFIRMED);
+    assertThat(objectMapper.writeValueAsString(ApplicationStatus.CONFIRMED))
+        .isEqualTo("\"本申込\"");
+  }
+}
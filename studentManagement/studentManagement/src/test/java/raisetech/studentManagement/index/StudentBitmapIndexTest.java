@@ -0,0 +1,172 @@
+package raisetech.studentManagement.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+
+class StudentBitmapIndexTest {
+
+  private StudentBitmapIndex sut;
+
+  private AtomicInteger loadCount;
+
+  private List<Student> students;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentBitmapIndex();
+    loadCount = new AtomicInteger();
+    students = List.of(
+        createStudent("1", "東京", "男性", 25),
+        createStudent("2", "大阪", "男性", 36),
+        createStudent("3", "北海道", "女性", 22),
+        createStudent("4", "東京", "女性", 28),
+        createStudent("5", "東京", "男性", 35));
+  }
+
+  @Test
+  void 絞り込み_居住地域と性別と年齢の条件がない場合は絞り込まれず読み込みも行われないこと() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setName("山田");
+
+    // 検証
+    assertThat(sut.filter(condition, this::load)).isEmpty();
+    assertThat(loadCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  void 絞り込み_指定した条件の積で絞り込まれること() {
+    // 検証
+    assertThat(filter(condition -> condition.setAddress("東京"))).containsExactly(1, 4, 5);
+    assertThat(filter(condition -> {
+      condition.setAddress("東京");
+      condition.setGender("男性");
+    })).containsExactly(1, 5);
+    assertThat(filter(condition -> {
+      condition.setGender("男性");
+      condition.setMinAge(30);
+    })).containsExactly(2, 5);
+    assertThat(filter(condition -> condition.setAddress("沖縄"))).isEmpty();
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 絞り込み_年齢は範囲に含まれる年齢の和で絞り込まれること() {
+    // 検証
+    assertThat(filter(condition -> {
+      condition.setMinAge(25);
+      condition.setMaxAge(35);
+    })).containsExactly(1, 4, 5);
+    assertThat(filter(condition -> condition.setMaxAge(25))).containsExactly(1, 3);
+    assertThat(filter(condition -> {
+      condition.setMinAge(40);
+      condition.setMaxAge(20);
+    })).isEmpty();
+  }
+
+  @Test
+  void 絞り込み_結果を変更しても索引の内容が変わらないこと() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setAddress("東京");
+    sut.filter(condition, this::load).orElseThrow().add(2);
+
+    // 検証
+    assertThat(filter(c -> c.setAddress("東京"))).containsExactly(1, 4, 5);
+  }
+
+  @Test
+  void 差し替え_更新された受講生は古い値では絞り込まれず新しい値で絞り込まれること() {
+    // 準備
+    filter(condition -> condition.setAddress("東京"));
+
+    sut.patch(List.of("1", "6"), studentIds -> List.of(
+        createStudent("1", "大阪", "男性", 26), createStudent("6", "東京", "その他", 40)));
+
+    // 検証
+    assertThat(filter(condition -> condition.setAddress("東京"))).containsExactly(4, 5, 6);
+    assertThat(filter(condition -> condition.setAddress("大阪"))).containsExactly(1, 2);
+    assertThat(filter(condition -> condition.setMaxAge(25))).containsExactly(3);
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 差し替え_まだ索引を作成していない場合は何も読み込まれないこと() {
+    // 準備
+    AtomicInteger patchLoadCount = new AtomicInteger();
+
+    sut.patch(List.of("1"), studentIds -> {
+      patchLoadCount.incrementAndGet();
+      return List.of();
+    });
+
+    // 検証
+    assertThat(patchLoadCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  void 差し替え_索引を作成している途中の場合は作成が終わってから差し替えられること() throws Exception {
+    // 準備
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    StudentSearchCondition filtering = new StudentSearchCondition();
+    filtering.setAddress("東京");
+    Thread filterer = new Thread(() -> sut.filter(filtering, () -> {
+      loading.countDown();
+      awaitQuietly(release);
+      return students;
+    }));
+    filterer.start();
+    loading.await();
+
+    Thread patcher = new Thread(() -> sut.patch(List.of("1"),
+        studentIds -> List.of(createStudent("1", "大阪", "男性", 26))));
+    patcher.start();
+    while (patcher.isAlive() && patcher.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+    filterer.join();
+    patcher.join();
+
+    // 検証
+    assertThat(filter(condition -> condition.setAddress("東京"))).containsExactly(4, 5);
+    assertThat(filter(condition -> condition.setAddress("大阪"))).containsExactly(1, 2);
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private List<Integer> filter(Consumer<StudentSearchCondition> setUp) {
+    StudentSearchCondition condition = new StudentSearchCondition();
+    setUp.accept(condition);
+    return sut.filter(condition, this::load).orElseThrow().stream().boxed().toList();
+  }
+
+  private List<Student> load() {
+    loadCount.incrementAndGet();
+    return students;
+  }
+
+  private Student createStudent(String id, String address, String gender, int age) {
+    Student student = new Student();
+    student.setId(id);
+    student.setAddress(address);
+    student.setGender(gender);
+    student.setAge(age);
+    return student;
+  }
+}
@@ -0,0 +1,206 @@
+package raisetech.studentManagement.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.dto.StudentSearchCondition;
+
+class StudentSearchIndexTest {
+
+  private StudentSearchIndex sut;
+
+  private AtomicInteger loadCount;
+
+  private List<Student> students;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentSearchIndex();
+    loadCount = new AtomicInteger();
+    students = new ArrayList<>(List.of(
+        createStudent("1", "山田太郎", "ヤマダタロウ", "taro@example.com", "東京", 25, "男性"),
+        createStudent("2", "鈴木一郎", "スズキイチロウ", "ichiro@example.com", "大阪", 36, "男性"),
+        createStudent("3", "田中花子", "タナカハナコ", "hana@example.com", "北海道", 22, "女性"),
+        createStudent("10", "山本太一", "ヤマモトタイチ", "Taichi@Example.com", "東京", 40, "男性")));
+  }
+
+  @Test
+  void 検索_部分一致の項目がない場合は索引で検索されず読み込みも行われないこと() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setAddress("東京");
+
+    // 検証
+    assertThat(sut.search(condition, null, this::load)).isEmpty();
+    assertThat(loadCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  void 検索_1文字から3文字を超える検索語まで部分一致する受講生が受講生IDの昇順で返却されること() {
+    // 検証
+    assertThat(searchIds(condition -> condition.setName("田"))).containsExactly("1", "3");
+    assertThat(searchIds(condition -> condition.setName("太"))).containsExactly("1", "10");
+    assertThat(searchIds(condition -> condition.setName("山田太"))).containsExactly("1");
+    assertThat(searchIds(condition -> condition.setKananame("スズキイチ"))).containsExactly("2");
+    assertThat(searchIds(condition -> condition.setName("花太"))).isEmpty();
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 検索_N_gramが揃っていても連続していない場合は返却されないこと() {
+    // 準備
+    students.add(createStudent("4", "あいうXあいう", "", "", "", 0, ""));
+    students.add(createStudent("5", "いうえ", "", "", "", 0, ""));
+
+    // 検証
+    assertThat(searchIds(condition -> condition.setName("あいうえ"))).isEmpty();
+  }
+
+  @Test
+  void 検索_カナ名は表記の揺れを正規化した前方一致で検索されること() {
+    // 検証
+    assertThat(searchIds(condition -> condition.setKananame("ﾔﾏ"))).containsExactly("1", "10");
+    assertThat(searchIds(condition -> condition.setKananame("やまだ たろう"))).containsExactly("1");
+    assertThat(searchIds(condition -> condition.setKananame("タロウ"))).isEmpty();
+  }
+
+  @Test
+  void 検索_英字の大文字と小文字を区別せずに検索されること() {
+    // 検証
+    assertThat(searchIds(condition -> condition.setEmail("EXAMPLE.COM")))
+        .containsExactly("1", "2", "3", "10");
+    assertThat(searchIds(condition -> condition.setEmail("taichi"))).containsExactly("10");
+  }
+
+  @Test
+  void 検索_複数の項目とその他の条件を組み合わせて絞り込まれること() {
+    // 検証
+    assertThat(searchIds(condition -> {
+      condition.setName("山");
+      condition.setEmail("ta");
+      condition.setAddress("東京");
+      condition.setMinAge(30);
+    })).containsExactly("10");
+    assertThat(searchIds(condition -> {
+      condition.setNickname("");
+      condition.setRemark("初学者");
+    })).containsExactly("2");
+  }
+
+  @Test
+  void 差し替え_更新された受講生の古い値では検索されず新しい値で検索されること() {
+    // 準備
+    searchIds(condition -> condition.setName("田"));
+    Student updated = createStudent("1", "佐藤太郎", "サトウタロウ", "taro@example.com", "東京", 25, "男性");
+    Student registered = createStudent("11", "田村二郎", "タムラジロウ", "jiro@example.com", "東京", 30, "男性");
+
+    sut.patch(List.of("1", "11"), studentIds -> List.of(updated, registered));
+
+    // 検証
+    assertThat(searchIds(condition -> condition.setName("田"))).containsExactly("3", "11");
+    assertThat(searchIds(condition -> condition.setName("佐藤"))).containsExactly("1");
+    assertThat(searchIds(condition -> condition.setName("山田"))).isEmpty();
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void 検索_あらかじめ絞り込んだ受講生IDの中からのみ検索されること() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setName("山");
+
+    List<Student> actual = sut.search(condition, RoaringBitmap.bitmapOf(10, 3), this::load)
+        .orElseThrow();
+
+    // 検証
+    assertThat(actual).extracting(Student::getId).containsExactly("10");
+  }
+
+  @Test
+  void 差し替え_まだ索引を作成していない場合は何も読み込まれないこと() {
+    // 準備
+    AtomicInteger patchLoadCount = new AtomicInteger();
+
+    sut.patch(List.of("1"), studentIds -> {
+      patchLoadCount.incrementAndGet();
+      return List.of();
+    });
+
+    // 検証
+    assertThat(patchLoadCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  void 差し替え_索引を作成している途中の場合は作成が終わってから差し替えられること() throws Exception {
+    // 準備
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    StudentSearchCondition searching = new StudentSearchCondition();
+    searching.setName("佐藤");
+    Thread searcher = new Thread(() -> sut.search(searching, null, () -> {
+      loading.countDown();
+      awaitQuietly(release);
+      return students;
+    }));
+    searcher.start();
+    loading.await();
+
+    Student updated = createStudent("1", "佐藤太郎", "サトウタロウ", "taro@example.com", "東京", 25, "男性");
+    Thread patcher = new Thread(() -> sut.patch(List.of("1"), studentIds -> List.of(updated)));
+    patcher.start();
+    while (patcher.isAlive() && patcher.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+    searcher.join();
+    patcher.join();
+
+    // 検証
+    assertThat(searchIds(condition -> condition.setName("佐藤"))).containsExactly("1");
+    assertThat(searchIds(condition -> condition.setName("山田"))).isEmpty();
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private List<String> searchIds(Consumer<StudentSearchCondition> setUp) {
+    StudentSearchCondition condition = new StudentSearchCondition();
+    setUp.accept(condition);
+    return sut.search(condition, null, this::load).orElseThrow().stream()
+        .map(Student::getId)
+        .toList();
+  }
+
+  private List<Student> load() {
+    loadCount.incrementAndGet();
+    return students;
+  }
+
+  private Student createStudent(String id, String name, String kanaName, String email,
+      String address, int age, String gender) {
+    Student student = new Student();
+    student.setId(id);
+    student.setName(name);
+    student.setKanaName(kanaName);
+    student.setNickname(name);
+    student.setEmail(email);
+    student.setAddress(address);
+    student.setAge(age);
+    student.setGender(gender);
+    student.setRemark("2".equals(id) ? "初学者" : "");
+    return student;
+  }
+}
@@ -0,0 +1,98 @@
+package raisetech.studentManagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import raisetech.studentManagement.config.StudentManagementProperties;
+
+@ExtendWith(OutputCaptureExtension.class)
+class StatementCountFilterTest {
+
+  private static final String SEARCH_STUDENT_COURSE =
+      "raisetech.studentManagement.repository.StudentRepository.searchStudentCourse";
+
+  private final StudentManagementProperties properties = new StudentManagementProperties();
+
+  @Test
+  void N加1の検出_同じステートメントが閾値を超えて実行された場合は警告が出力されること(CapturedOutput output)
+      throws Exception {
+    // 準備
+    StatementCountFilter sut = new StatementCountFilter(properties);
+
+    sut.doFilter(request("/studentList"), new MockHttpServletResponse(),
+        chainExecuting(SEARCH_STUDENT_COURSE, 11));
+
+    // 検証
+    assertThat(output).contains("N+1 の疑い: GET /studentList")
+        .contains(SEARCH_STUDENT_COURSE + "=11");
+  }
+
+  @Test
+  void N加1の検出_閾値以内の場合は警告が出力されないこと(CapturedOutput output) throws Exception {
+    // 準備
+    StatementCountFilter sut = new StatementCountFilter(properties);
+
+    sut.doFilter(request("/studentList"), new MockHttpServletResponse(),
+        chainExecuting(SEARCH_STUDENT_COURSE, 10));
+
+    // 検証
+    assertThat(output).doesNotContain("N+1 の疑い");
+  }
+
+  @Test
+  void N加1の検出_除外したパスの場合は警告が出力されないこと(CapturedOutput output) throws Exception {
+    // 準備
+    StatementCountFilter sut = new StatementCountFilter(properties);
+
+    sut.doFilter(request("/registerStudents"), new MockHttpServletResponse(),
+        chainExecuting(SEARCH_STUDENT_COURSE, 11));
+
+    // 検証
+    assertThat(output).doesNotContain("N+1 の疑い");
+  }
+
+  @Test
+  void N加1の検出_リクエストの終了後はステートメントが数えられないこと() throws Exception {
+    // 準備
+    StatementCountFilter sut = new StatementCountFilter(properties);
+    StatementCounter[] counted = new StatementCounter[1];
+
+    sut.doFilter(request("/studentList"), new MockHttpServletResponse(),
+        new MockFilterChain(new HttpServlet() {
+          @Override
+          protected void service(HttpServletRequest request, HttpServletResponse response) {
+            counted[0] = StatementCounter.start();
+          }
+        }));
+    StatementCounter.increment(SEARCH_STUDENT_COURSE);
+
+    // 検証
+    assertThat(counted[0].total()).isZero();
+  }
+
+  private MockHttpServletRequest request(String path) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.setServletPath(path);
+    return request;
+  }
+
+  private MockFilterChain chainExecuting(String statementId, int times) {
+    return new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest request, HttpServletResponse response) {
+        for (int i = 0; i < times; i++) {
+          StatementCounter.increment(statementId);
+        }
+      }
+    });
+  }
+}
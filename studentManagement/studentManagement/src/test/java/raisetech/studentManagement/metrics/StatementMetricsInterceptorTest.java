@@ -0,0 +1,121 @@
+package raisetech.studentManagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StatementMetricsInterceptorTest {
+
+  private static final String SEARCH_STUDENT =
+      "raisetech.studentManagement.repository.StudentRepository.searchStudentByIds";
+
+  private static final String UPDATE_STUDENT =
+      "raisetech.studentManagement.repository.StudentRepository.updateStudent";
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private Executor executor;
+
+  private StatementMetricsInterceptor sut;
+
+  @BeforeEach
+  void before() {
+    meterRegistry = new SimpleMeterRegistry();
+    executor = mock(Executor.class);
+    sut = new StatementMetricsInterceptor(meterRegistry);
+  }
+
+  @Test
+  void 検索の計測_ステートメントIDごとに実行時間と検索した件数が記録されること() throws Throwable {
+    // 準備
+    MappedStatement mappedStatement = createMappedStatement(SEARCH_STUDENT, SqlCommandType.SELECT);
+    when(executor.query(mappedStatement, null, RowBounds.DEFAULT, null))
+        .thenReturn(List.of("1", "2", "3"));
+
+    Object actual = sut.intercept(new Invocation(executor, queryMethod(),
+        new Object[]{mappedStatement, null, RowBounds.DEFAULT, null}));
+
+    // 検証
+    assertThat(actual).isEqualTo(List.of("1", "2", "3"));
+    assertThat(meterRegistry.get("student.repository.statement")
+        .tag("statement", SEARCH_STUDENT)
+        .tag("command", "select")
+        .tag("outcome", "success")
+        .timer().count()).isEqualTo(1);
+    DistributionSummary rows = meterRegistry.get("student.repository.rows")
+        .tag("statement", SEARCH_STUDENT)
+        .summary();
+    assertThat(rows.count()).isEqualTo(1);
+    assertThat(rows.totalAmount()).isEqualTo(3);
+  }
+
+  @Test
+  void 更新の計測_更新した件数が記録されること() throws Throwable {
+    // 準備
+    MappedStatement mappedStatement = createMappedStatement(UPDATE_STUDENT, SqlCommandType.UPDATE);
+    when(executor.update(mappedStatement, null)).thenReturn(1);
+
+    sut.intercept(new Invocation(executor, updateMethod(), new Object[]{mappedStatement, null}));
+
+    // 検証
+    assertThat(meterRegistry.get("student.repository.rows")
+        .tag("statement", UPDATE_STUDENT)
+        .tag("command", "update")
+        .summary().totalAmount()).isEqualTo(1);
+  }
+
+  @Test
+  void エラーの計測_例外が発生した場合はエラー数が記録されて例外がそのまま投げられること() throws Exception {
+    // 準備
+    MappedStatement mappedStatement = createMappedStatement(UPDATE_STUDENT, SqlCommandType.UPDATE);
+    when(executor.update(mappedStatement, null)).thenThrow(new PersistenceException("error"));
+
+    // 検証
+    InvocationTargetException actual = assertThrows(InvocationTargetException.class,
+        () -> sut.intercept(
+            new Invocation(executor, updateMethod(), new Object[]{mappedStatement, null})));
+    assertThat(actual.getTargetException()).isInstanceOf(PersistenceException.class);
+    assertThat(meterRegistry.get("student.repository.errors")
+        .tag("statement", UPDATE_STUDENT)
+        .tag("exception", "PersistenceException")
+        .counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("student.repository.statement")
+        .tag("statement", UPDATE_STUDENT)
+        .tag("outcome", "error")
+        .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.find("student.repository.rows").summary()).isNull();
+  }
+
+  private MappedStatement createMappedStatement(String id, SqlCommandType sqlCommandType) {
+    Configuration configuration = new Configuration();
+    return new MappedStatement.Builder(configuration, id,
+        new StaticSqlSource(configuration, "SELECT 1"), sqlCommandType).build();
+  }
+
+  private Method queryMethod() throws NoSuchMethodException {
+    return Executor.class.getMethod("query", MappedStatement.class, Object.class,
+        RowBounds.class, ResultHandler.class);
+  }
+
+  private Method updateMethod() throws NoSuchMethodException {
+    return Executor.class.getMethod("update", MappedStatement.class, Object.class);
+  }
+}
@@ -0,0 +1,136 @@
+package raisetech.studentManagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.data.Student;
+
+@ExtendWith(OutputCaptureExtension.class)
+class StatementMonitorInterceptorTest {
+
+  private static final String UPDATE_STUDENT =
+      "raisetech.studentManagement.repository.StudentRepository.updateStudent";
+
+  private StudentManagementProperties properties;
+
+  private Executor executor;
+
+  private Configuration configuration;
+
+  private MappedStatement mappedStatement;
+
+  @BeforeEach
+  void before() {
+    properties = new StudentManagementProperties();
+    executor = mock(Executor.class);
+    configuration = new Configuration();
+    mappedStatement = new MappedStatement.Builder(configuration, UPDATE_STUDENT,
+        new StaticSqlSource(configuration,
+            "UPDATE students SET name = ?, email = ? WHERE id = ? AND version = ?",
+            List.of(parameterMapping("name"), parameterMapping("email"), parameterMapping("id"),
+                parameterMapping("version"))),
+        SqlCommandType.UPDATE).build();
+  }
+
+  @AfterEach
+  void after() {
+    StatementCounter.clear();
+  }
+
+  @Test
+  void 遅いステートメント_閾値を超えた場合は件数と伏せ字にしたパラメーターがログに出力されること(
+      CapturedOutput output) throws Throwable {
+    // 準備
+    properties.getStatementMonitor().setSlowThreshold(Duration.ofMillis(-1));
+    StatementMonitorInterceptor sut = new StatementMonitorInterceptor(properties);
+    Student student = createStudent();
+    when(executor.update(mappedStatement, student)).thenReturn(1);
+
+    sut.intercept(updateInvocation(student));
+
+    // 検証
+    assertThat(output).contains("遅いステートメント: " + UPDATE_STUDENT)
+        .contains("件数=1")
+        .contains("name=****", "email=****", "id=1", "version=3")
+        .doesNotContain("江並公史", "test@example.com");
+  }
+
+  @Test
+  void 遅いステートメント_閾値以内の場合はログに出力されないこと(CapturedOutput output) throws Throwable {
+    // 準備
+    StatementMonitorInterceptor sut = new StatementMonitorInterceptor(properties);
+    Student student = createStudent();
+    when(executor.update(mappedStatement, student)).thenReturn(1);
+
+    sut.intercept(updateInvocation(student));
+
+    // 検証
+    assertThat(output).doesNotContain("遅いステートメント");
+  }
+
+  @Test
+  void ステートメントの計数_数えている間に実行されたステートメントがステートメントIDごとに数えられること()
+      throws Throwable {
+    // 準備
+    StatementMonitorInterceptor sut = new StatementMonitorInterceptor(properties);
+    Student student = createStudent();
+    when(executor.update(mappedStatement, student)).thenReturn(1);
+    StatementCounter statementCounter = StatementCounter.start();
+
+    sut.intercept(updateInvocation(student));
+    sut.intercept(updateInvocation(student));
+    sut.intercept(updateInvocation(student));
+
+    // 検証
+    assertThat(statementCounter.total()).isEqualTo(3);
+    assertThat(statementCounter.exceeding(2)).isEqualTo(Map.of(UPDATE_STUDENT, 3));
+    assertThat(statementCounter.exceeding(3)).isEmpty();
+  }
+
+  @Test
+  void パラメーター名_foreachの要素やネストしたプロパティから比較に使う名前が取り出されること() {
+    // 検証
+    assertThat(StatementMonitorInterceptor.baseName("__frch_student_0.kanaName"))
+        .isEqualTo("kananame");
+    assertThat(StatementMonitorInterceptor.baseName("__frch_id_12")).isEqualTo("id");
+    assertThat(StatementMonitorInterceptor.baseName("condition.address")).isEqualTo("address");
+    assertThat(StatementMonitorInterceptor.baseName("afterId")).isEqualTo("afterid");
+  }
+
+  private Invocation updateInvocation(Student student) throws NoSuchMethodException {
+    Method method = Executor.class.getMethod("update", MappedStatement.class, Object.class);
+    return new Invocation(executor, method, new Object[]{mappedStatement, student});
+  }
+
+  private ParameterMapping parameterMapping(String property) {
+    return new ParameterMapping.Builder(configuration, property, Object.class).build();
+  }
+
+  private Student createStudent() {
+    Student student = new Student();
+    student.setId("1");
+    student.setName("江並公史");
+    student.setEmail("test@example.com");
+    student.setVersion(3);
+    return student;
+  }
+}
@@ -0,0 +1,86 @@
+package raisetech.studentManagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentPage;
+import raisetech.studentManagement.exception.StudentNotFoundException;
+import raisetech.studentManagement.service.StudentService;
+
+class StudentServiceMetricsAspectTest {
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private StudentService service;
+
+  private StudentService sut;
+
+  @BeforeEach
+  void before() {
+    meterRegistry = new SimpleMeterRegistry();
+    service = mock(StudentService.class);
+    AspectJProxyFactory proxyFactory = new AspectJProxyFactory(service);
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAspect(new StudentServiceMetricsAspect(meterRegistry));
+    sut = proxyFactory.getProxy();
+  }
+
+  @Test
+  void 一覧検索の計測_実行時間と返した受講生詳細の件数が記録されること() {
+    // 準備
+    when(service.searchStudentList()).thenReturn(List.of(new StudentDetail(), new StudentDetail()));
+
+    sut.searchStudentList();
+
+    // 検証
+    assertThat(meterRegistry.get("student.service.method")
+        .tag("method", "searchStudentList()")
+        .tag("outcome", "success")
+        .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("student.service.rows")
+        .tag("method", "searchStudentList()")
+        .summary().totalAmount()).isEqualTo(2);
+  }
+
+  @Test
+  void ページ検索の計測_オーバーロードされたメソッドが引数の型で区別されること() {
+    // 準備
+    when(service.searchStudentList(10, null))
+        .thenReturn(new StudentPage(List.of(new StudentDetail()), null));
+
+    sut.searchStudentList(10, null);
+
+    // 検証
+    assertThat(meterRegistry.get("student.service.rows")
+        .tag("method", "searchStudentList(Integer,String)")
+        .summary().totalAmount()).isEqualTo(1);
+    assertThat(meterRegistry.find("student.service.method")
+        .tag("method", "searchStudentList()")
+        .timer()).isNull();
+  }
+
+  @Test
+  void エラーの計測_例外が発生した場合はエラー数が記録されて例外がそのまま投げられること() {
+    // 準備
+    when(service.searchStudent("999")).thenThrow(new StudentNotFoundException("not found"));
+
+    // 検証
+    assertThrows(StudentNotFoundException.class, () -> sut.searchStudent("999"));
+    assertThat(meterRegistry.get("student.service.errors")
+        .tag("method", "searchStudent(String)")
+        .tag("exception", "StudentNotFoundException")
+        .counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("student.service.method")
+        .tag("method", "searchStudent(String)")
+        .tag("outcome", "error")
+        .timer().count()).isEqualTo(1);
+  }
+}
@@ -1,16 +1,22 @@
 package raisetech.studentManagement.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import raisetech.studentManagement.data.ApplicationStatus;
 import raisetech.studentManagement.data.CourseStatus;
 import raisetech.studentManagement.data.Student;
 import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.FacetCount;
 import raisetech.studentManagement.dto.StudentSearchCondition;
 
 @MybatisTest
@@ -28,6 +34,152 @@ class StudentRepositoryTest {
     assertThat(actual.size()).isEqualTo(5);
   }
 
+  @Test
+  void 受講生IDの一覧に該当する論理削除されていない受講生のみ検索が行えること() {
+    // 準備
+    Student student = sut.searchStudent("2");
+    student.setDeleted(true);
+    sut.updateStudent(student);
+
+    List<Student> actual = sut.searchStudentByIds(List.of("3", "1", "2", "99"));
+
+    // 検証
+    assertThat(actual).extracting(Student::getId).containsExactly("1", "3");
+  }
+
+  @Test
+  void 受講生の条件指定検索でカナ名は表記の揺れを正規化した前方一致で検索されること() {
+    // 準備
+    StudentSearchCondition halfWidth = new StudentSearchCondition();
+    halfWidth.setKananame("ﾔﾏﾀﾞ");
+    StudentSearchCondition hiragana = new StudentSearchCondition();
+    hiragana.setKananame("すずき");
+    StudentSearchCondition middle = new StudentSearchCondition();
+    middle.setKananame("タロウ");
+
+    // 検証
+    assertThat(sut.searchByCondition(halfWidth)).extracting(Student::getId).containsExactly("1");
+    assertThat(sut.searchByCondition(hiragana)).extracting(Student::getId).containsExactly("2");
+    assertThat(sut.searchByCondition(middle)).isEmpty();
+  }
+
+  @Test
+  void 受講生の登録と更新で正規化したカナ名が保存されること() {
+    // 準備
+    Student student = new Student();
+    student.setName("江並公史");
+    student.setKanaName("えなみ こーじ");
+    student.setNickname("エナミ");
+    student.setEmail("test@example.com");
+    student.setAddress("奈良県");
+    student.setGender("男性");
+    sut.registerStudent(student);
+
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setKananame("エナミコー");
+    List<Student> registered = sut.searchByCondition(condition);
+
+    student.setKanaName("ｴﾅﾐｺｳｼﾞ");
+    sut.updateStudent(student);
+    condition.setKananame("えなみこう");
+    List<Student> updated = sut.searchByCondition(condition);
+
+    // 検証
+    assertThat(registered).extracting(Student::getId).containsExactly(student.getId());
+    assertThat(updated).extracting(Student::getId).containsExactly(student.getId());
+  }
+
+  @Test
+  void 正規化したカナ名が未設定の受講生の検索と更新が行えること() {
+    // 準備
+    Student cleared = new Student();
+    cleared.setId("3");
+    sut.updateKanaNameNormalized(cleared);
+    List<Student> missing = sut.searchKanaNameNormalizedMissing(null, 10);
+
+    sut.updateKanaNameNormalized(missing.getFirst());
+
+    // 検証
+    assertThat(missing).extracting(Student::getId).containsExactly("3");
+    assertThat(missing.getFirst().getKanaName()).isEqualTo("タナカハナコ");
+    assertThat(sut.searchKanaNameNormalizedMissing(null, 10)).isEmpty();
+    assertThat(sut.searchKanaNameNormalizedMissing(3L, 10)).isEmpty();
+  }
+
+  @Test
+  void 論理削除済みの受講生を含めて受講生の全件検索とID指定の検索が行えること() {
+    // 準備
+    Student student = sut.searchStudent("2");
+    student.setDeleted(true);
+    sut.updateStudent(student);
+
+    List<Student> all = sut.searchAllIncludingDeleted();
+    List<Student> byIds = sut.searchStudentByIdsIncludingDeleted(List.of("2", "1"));
+
+    // 検証
+    assertThat(all).extracting(Student::getId).containsExactly("1", "2", "3", "4", "5");
+    assertThat(byIds).extracting(Student::getId).containsExactly("1", "2");
+  }
+
+  @Test
+  void 受講生のページ検索が受講生IDの昇順に行えること() {
+    // 準備
+    List<Student> firstPage = sut.searchPage(null, 2);
+    List<Student> secondPage = sut.searchPage(
+        Long.valueOf(firstPage.get(firstPage.size() - 1).getId()), 10);
+
+    // 検証
+    assertThat(firstPage).extracting(Student::getId).containsExactly("1", "2");
+    assertThat(secondPage).extracting(Student::getId).containsExactly("3", "4", "5");
+  }
+
+  @Test
+  void 受講生の全件検索がカーソルで受講生IDの昇順に行えること() throws Exception {
+    // 準備
+    List<String> actual = new ArrayList<>();
+    try (Cursor<Student> cursor = sut.searchCursor()) {
+      cursor.forEach(student -> actual.add(student.getId()));
+    }
+
+    // 検証
+    assertThat(actual).containsExactly("1", "2", "3", "4", "5");
+  }
+
+  @Test
+  void 受講生詳細の全件検索が結合したクエリで行えること() {
+    // 準備
+    List<StudentDetail> actual = sut.searchStudentDetailList();
+
+    // 検証
+    assertThat(actual.size()).isEqualTo(5);
+    assertThat(actual.get(0).getStudent().getName()).isEqualTo("山田太郎");
+    assertThat(actual.get(0).getStudentCourseList()).extracting(StudentCourse::getCourseName)
+        .containsExactly("Javaコース", "AWSコース");
+    assertThat(actual.get(0).getCourseStatusList()).extracting(CourseStatus::getStatus)
+        .containsExactly(ApplicationStatus.TEMPORARY, ApplicationStatus.CONFIRMED);
+    assertThat(actual.get(1).getStudentCourseList()).extracting(StudentCourse::getCourseName)
+        .containsExactly("デザインコース");
+  }
+
+  @Test
+  void 受講生詳細の検索が結合したクエリで行えること() {
+    // 準備
+    StudentDetail actual = sut.searchStudentDetail("3");
+
+    // 検証
+    assertThat(actual.getStudent().getId()).isEqualTo("3");
+    assertThat(actual.getStudent().getKanaName()).isEqualTo("タナカハナコ");
+    assertThat(actual.getStudentCourseList()).extracting(StudentCourse::getStudentId)
+        .containsOnly("3");
+    assertThat(actual.getCourseStatusList()).extracting(CourseStatus::getStatus)
+        .containsExactly(ApplicationStatus.COMPLETED, ApplicationStatus.TEMPORARY);
+  }
+
+  @Test
+  void 受講生詳細の検索が結合したクエリで行えること_受講生が存在しない場合はnullが返ること() {
+    assertThat(sut.searchStudentDetail("999")).isNull();
+  }
+
   @Test
   void 受講生の検索を行えること() {
     // 準備
@@ -90,6 +242,92 @@ class StudentRepositoryTest {
     assertThat(actual.size()).isEqualTo(1);
   }
 
+  @Test
+  void 条件に合致する受講生詳細の検索が結合したクエリで行えること() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setGender("女性");
+    List<StudentDetail> actual = sut.searchStudentDetailByCondition(condition);
+
+    // 検証
+    assertThat(actual).extracting(detail -> detail.getStudent().getName())
+        .containsExactly("田中花子", "佐藤良子");
+    assertThat(actual.get(1).getStudentCourseList()).extracting(StudentCourse::getCourseName)
+        .containsExactly("Javaコース", "マーケティングコース");
+  }
+
+  @Test
+  void 条件に合致する受講生のページ検索が行えること() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setGender("女性");
+    List<Student> firstPage = sut.searchByConditionPage(condition, null, 1);
+    List<Student> secondPage = sut.searchByConditionPage(condition,
+        Long.valueOf(firstPage.get(0).getId()), 1);
+
+    // 検証
+    assertThat(firstPage).extracting(Student::getName).containsExactly("田中花子");
+    assertThat(secondPage).extracting(Student::getName).containsExactly("佐藤良子");
+  }
+
+  @Test
+  void 申込状況ごとの件数が件数の多い順にコードで集計できること() {
+    // 準備
+    List<FacetCount> actual = sut.countByStatus(new StudentSearchCondition());
+
+    // 検証
+    assertThat(actual).extracting(FacetCount::getValue, FacetCount::getCount)
+        .containsExactly(tuple("2", 3L), tuple("1", 2L), tuple("3", 2L), tuple("4", 2L));
+  }
+
+  @Test
+  void 条件に合致する受講生のコース名ごとの件数が集計できること() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setGender("女性");
+    List<FacetCount> actual = sut.countByCourseName(condition);
+
+    // 検証
+    assertThat(actual).extracting(FacetCount::getValue, FacetCount::getCount)
+        .containsExactly(tuple("マーケティングコース", 2L), tuple("Javaコース", 1L),
+            tuple("Web制作コース", 1L));
+  }
+
+  @Test
+  void 居住地域ごとの件数の集計_論理削除済みの受講生は集計されないこと() {
+    // 準備
+    Student student = sut.searchStudent("1");
+    student.setDeleted(true);
+    sut.updateStudent(student);
+
+    List<FacetCount> actual = sut.countByAddress(new StudentSearchCondition());
+
+    // 検証
+    assertThat(actual).extracting(FacetCount::getValue)
+        .containsExactlyInAnyOrder("大阪", "北海道", "福岡", "愛知");
+    assertThat(actual).extracting(FacetCount::getCount).containsOnly(1L);
+  }
+
+  @Test
+  void 受講生IDの一覧に紐づく受講生コース情報の検索が行えること() {
+    // 準備
+    List<StudentCourse> actual = sut.searchStudentCourseByStudentIds(List.of("1", "2"));
+
+    // 検証
+    assertThat(actual).extracting(StudentCourse::getCourseName)
+        .containsExactlyInAnyOrder("Javaコース", "AWSコース", "デザインコース");
+  }
+
+  @Test
+  void 受講生IDの一覧に紐づく申込状況の検索が行えること() {
+    // 準備
+    List<CourseStatus> actual = sut.searchCourseStatusByStudentIds(List.of("1", "3"));
+
+    // 検証
+    assertThat(actual).extracting(CourseStatus::getStudentCourseId)
+        .containsExactlyInAnyOrder("1", "2", "4", "5");
+  }
+
   @Test
   void 受講生の登録が行えること() {
     // 準備
@@ -110,6 +348,30 @@ class StudentRepositoryTest {
     assertThat(actual.size()).isEqualTo(6);
   }
 
+  @Test
+  void 受講生の一括登録が行え採番されたIDが設定されること() {
+    // 準備
+    List<Student> studentList = new ArrayList<>();
+    for (String name : List.of("江並公史", "江並花子")) {
+      Student student = new Student();
+      student.setName(name);
+      student.setKanaName("エナミ");
+      student.setNickname("エナミ");
+      student.setEmail("test@example.com");
+      student.setAddress("奈良県");
+      student.setGender("男性");
+      studentList.add(student);
+    }
+
+    sut.registerStudentList(studentList);
+
+    // 検証
+    assertThat(studentList).extracting(Student::getId).doesNotContainNull()
+        .doesNotHaveDuplicates();
+    assertThat(sut.searchStudent(studentList.get(1).getId()).getName()).isEqualTo("江並花子");
+    assertThat(sut.search().size()).isEqualTo(7);
+  }
+
   @Test
   void 受講生コース情報の登録が行えること() {
     StudentCourse studentCourse = new StudentCourse();
@@ -125,12 +387,48 @@ class StudentRepositoryTest {
     assertThat(actual.size()).isEqualTo(10);
   }
 
+  @Test
+  void 受講生コース情報と申込状況の一括登録が行え採番されたIDが設定されること() {
+    // 準備
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    for (String courseName : List.of("Javaコース", "AWSコース", "デザインコース")) {
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setStudentId("2");
+      studentCourse.setCourseName(courseName);
+      studentCourse.setCourseStartAt(LocalDateTime.now());
+      studentCourse.setCourseEndAt(LocalDateTime.now().plusYears(1));
+      studentCourseList.add(studentCourse);
+    }
+
+    sut.registerStudentCourseList(studentCourseList);
+
+    List<CourseStatus> courseStatusList = new ArrayList<>();
+    for (StudentCourse studentCourse : studentCourseList) {
+      CourseStatus courseStatus = new CourseStatus();
+      courseStatus.setStudentCourseId(studentCourse.getId());
+      courseStatus.setStatus(ApplicationStatus.TEMPORARY);
+      courseStatusList.add(courseStatus);
+    }
+
+    sut.registerCourseStatusList(courseStatusList);
+
+    // 検証
+    assertThat(studentCourseList).extracting(StudentCourse::getId).doesNotContainNull()
+        .doesNotHaveDuplicates();
+    assertThat(courseStatusList).extracting(CourseStatus::getId).doesNotContainNull()
+        .doesNotHaveDuplicates();
+    assertThat(sut.searchStudentCourse("2")).extracting(StudentCourse::getCourseName)
+        .containsExactly("デザインコース", "Javaコース", "AWSコース", "デザインコース");
+    assertThat(sut.searchCourseStatus(Set.of(studentCourseList.get(2).getId())))
+        .extracting(CourseStatus::getId).containsExactly(courseStatusList.get(2).getId());
+  }
+
   @Test
   void 申込状況の登録が行えること() {
     // 準備
     CourseStatus courseStatus = new CourseStatus();
     courseStatus.setStudentCourseId("1");
-    courseStatus.setStatus("仮申込");
+    courseStatus.setStatus(ApplicationStatus.TEMPORARY);
 
     sut.registerCourseStatus(courseStatus);
     List<CourseStatus> actual = sut.searchCourseStatusList();
@@ -180,6 +478,97 @@ class StudentRepositoryTest {
     assertThat(actual.get(1).getCourseName()).isEqualTo("AWSコース");
   }
 
+  @Test
+  void 受講生の指定した列のみの更新が行えること() {
+    // 準備
+    Student student = sut.searchStudent("1");
+    student.setName("変更されない名前");
+    student.setKanaName("ヤマダ　ジロウ");
+    student.setAge(26);
+
+    int actualCount = sut.updateStudentColumns(student, Set.of("kanaName", "age"));
+    Student actual = sut.searchStudent("1");
+
+    // 検証
+    assertThat(actualCount).isEqualTo(1);
+    assertThat(actual.getName()).isEqualTo("山田太郎");
+    assertThat(actual.getKanaName()).isEqualTo("ヤマダ　ジロウ");
+    assertThat(actual.getAge()).isEqualTo(26);
+    assertThat(actual.getVersion()).isEqualTo(1);
+
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setKananame("やまだじ");
+    assertThat(sut.searchByCondition(condition)).extracting(Student::getId).containsExactly("1");
+  }
+
+  @Test
+  void 受講生の更新_バージョンが一致しない場合は更新されないこと() {
+    // 準備
+    Student student = sut.searchStudent("1");
+    student.setName("先に更新");
+    sut.updateStudent(student);
+
+    student.setName("後から更新");
+    int actualCount = sut.updateStudent(student);
+    Student actual = sut.searchStudent("1");
+
+    // 検証
+    assertThat(actualCount).isEqualTo(0);
+    assertThat(actual.getName()).isEqualTo("先に更新");
+    assertThat(actual.getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生コース情報のコース名の一括更新が行えること() {
+    // 準備
+    List<StudentCourse> studentCourseList = sut.searchStudentCourse("1");
+    studentCourseList.get(0).setCourseName("デザインコース");
+    studentCourseList.get(1).setCourseName("Web制作コース");
+
+    int actualCount = sut.updateStudentCourseNames(studentCourseList);
+    List<StudentCourse> actual = sut.searchStudentCourse("1");
+
+    // 検証
+    assertThat(actualCount).isEqualTo(2);
+    assertThat(actual).extracting(StudentCourse::getCourseName)
+        .containsExactly("デザインコース", "Web制作コース");
+    assertThat(sut.searchStudentCourse("2")).extracting(StudentCourse::getCourseName)
+        .containsExactly("デザインコース");
+  }
+
+  @Test
+  void 申込状況の一括更新が行えること() {
+    // 準備
+    List<CourseStatus> courseStatusList = sut.searchCourseStatus(Set.of("1", "2"));
+    courseStatusList.forEach(courseStatus -> courseStatus.setStatus(ApplicationStatus.COMPLETED));
+
+    int actualCount = sut.updateCourseStatusList(courseStatusList);
+    List<CourseStatus> actual = sut.searchCourseStatus(Set.of("1", "2", "3"));
+
+    // 検証
+    assertThat(actualCount).isEqualTo(2);
+    assertThat(actual).extracting(CourseStatus::getStatus)
+        .containsExactly(ApplicationStatus.COMPLETED, ApplicationStatus.COMPLETED,
+            ApplicationStatus.IN_PROGRESS);
+  }
+
+  @Test
+  void 申込状況の一括更新_バージョンが一致しない行は更新されないこと() {
+    // 準備
+    List<CourseStatus> courseStatusList = sut.searchCourseStatus(Set.of("1", "2"));
+    courseStatusList.forEach(courseStatus -> courseStatus.setStatus(ApplicationStatus.IN_PROGRESS));
+    courseStatusList.get(1).setVersion(5);
+
+    int actualCount = sut.updateCourseStatusList(courseStatusList);
+    List<CourseStatus> actual = sut.searchCourseStatus(Set.of("1", "2"));
+
+    // 検証
+    assertThat(actualCount).isEqualTo(1);
+    assertThat(actual).extracting(CourseStatus::getStatus, CourseStatus::getVersion)
+        .containsExactly(tuple(ApplicationStatus.IN_PROGRESS, 1),
+            tuple(ApplicationStatus.CONFIRMED, 0));
+  }
+
   @Test
   void 申込状況の更新が行えること() {
     // 準備
@@ -190,14 +579,82 @@ class StudentRepositoryTest {
     CourseStatus applicationStatus = applicationStatusList.get(0);
 
     // 更新前の申込状況の確認
-    assertThat(applicationStatus.getStatus()).isEqualTo("仮申込");
+    assertThat(applicationStatus.getStatus()).isEqualTo(ApplicationStatus.TEMPORARY);
 
-    applicationStatus.setStatus("本申込");
+    applicationStatus.setStatus(ApplicationStatus.CONFIRMED);
     sut.updateCourseStatus(applicationStatus);
 
     List<CourseStatus> actual = sut.searchCourseStatus(studentCourseIds);
 
     // 検証
-    assertThat(actual.get(0).getStatus()).isEqualTo("本申込");
+    assertThat(actual.get(0).getStatus()).isEqualTo(ApplicationStatus.CONFIRMED);
+  }
+
+  @Test
+  void 論理削除済みの受講生が受講生コース情報と申込状況とともにアーカイブ用のテーブルへ移動できること() {
+    // 準備
+    deleteStudent("2");
+
+    List<String> studentIds = sut.searchDeletedStudentIdsForUpdate(10);
+    int courseStatusCount = sut.archiveCourseStatus(studentIds);
+    int studentCourseCount = sut.archiveStudentCourses(studentIds);
+    int studentCount = sut.archiveStudents(studentIds);
+    sut.deleteCourseStatusByStudentIds(studentIds);
+    sut.deleteStudentCoursesByStudentIds(studentIds);
+    sut.deleteStudents(studentIds);
+
+    // 検証
+    assertThat(studentIds).containsExactly("2");
+    assertThat(List.of(studentCount, studentCourseCount, courseStatusCount))
+        .containsExactly(1, 1, 1);
+    assertThat(sut.searchStudent("2")).isNull();
+    assertThat(sut.searchStudentCourse("2")).isEmpty();
+    assertThat(sut.searchCourseStatusList()).hasSize(8);
+
+    StudentDetail actual = sut.searchArchivedStudentDetail("2");
+    assertThat(actual.getStudent().getName()).isEqualTo("鈴木一郎");
+    assertThat(actual.getStudent().isDeleted()).isTrue();
+    assertThat(actual.getStudentCourseList()).extracting(StudentCourse::getCourseName)
+        .containsExactly("デザインコース");
+    assertThat(actual.getCourseStatusList()).extracting(CourseStatus::getStatus)
+        .containsExactly(ApplicationStatus.IN_PROGRESS);
+  }
+
+  @Test
+  void 論理削除されていない受講生とアーカイブしていない受講生はアーカイブ済みとして検索されないこと() {
+    // 準備
+    deleteStudent("3");
+
+    // 検証
+    assertThat(sut.searchDeletedStudentIdsForUpdate(10)).containsExactly("3");
+    assertThat(sut.searchArchivedStudentDetail("3")).isNull();
+  }
+
+  @Test
+  void アーカイブした受講生詳細のページ検索が受講生単位で行えること() {
+    // 準備
+    for (String id : List.of("1", "3", "4")) {
+      deleteStudent(id);
+    }
+    List<String> studentIds = sut.searchDeletedStudentIdsForUpdate(10);
+    sut.archiveCourseStatus(studentIds);
+    sut.archiveStudentCourses(studentIds);
+    sut.archiveStudents(studentIds);
+
+    List<StudentDetail> firstPage = sut.searchArchivedStudentDetailPage(null, 2);
+    List<StudentDetail> secondPage = sut.searchArchivedStudentDetailPage(3L, 2);
+
+    // 検証
+    assertThat(firstPage).extracting(studentDetail -> studentDetail.getStudent().getId())
+        .containsExactly("1", "3");
+    assertThat(firstPage.get(0).getStudentCourseList()).hasSize(2);
+    assertThat(secondPage).extracting(studentDetail -> studentDetail.getStudent().getId())
+        .containsExactly("4");
+  }
+
+  private void deleteStudent(String id) {
+    Student student = sut.searchStudent(id);
+    student.setDeleted(true);
+    sut.updateStudent(student);
   }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package raisetech.studentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.exception.StudentNotFoundException;
+
+class QueryFanOutExecutorTest {
+
+  private QueryFanOutExecutor sut;
+
+  @AfterEach
+  void after() {
+    sut.destroy();
+  }
+
+  @Test
+  void 検索の並行実行_複数の検索が仮想スレッドで同時に実行されること() {
+    // 準備
+    sut = new QueryFanOutExecutor(new StudentManagementProperties());
+    CountDownLatch started = new CountDownLatch(2);
+
+    CompletableFuture<Boolean> first = sut.submit(() -> awaitOthers(started));
+    CompletableFuture<Boolean> second = sut.submit(() -> awaitOthers(started));
+
+    // 検証
+    assertThat(sut.join(first)).isTrue();
+    assertThat(sut.join(second)).isTrue();
+  }
+
+  @Test
+  void 検索の並行実行_同時に実行される検索の数が上限を超えないこと() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getFanOut().setMaxConcurrentQueries(2);
+    sut = new QueryFanOutExecutor(properties);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(sut.submit(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        sleep(20);
+        return running.decrementAndGet();
+      }));
+    }
+    futures.forEach(sut::join);
+
+    // 検証
+    assertThat(maxRunning.get()).isEqualTo(2);
+  }
+
+  @Test
+  void 検索の並行実行_検索中に発生した例外がそのままスローされること() {
+    // 準備
+    sut = new QueryFanOutExecutor(new StudentManagementProperties());
+
+    CompletableFuture<Object> future = sut.submit(() -> {
+      throw new StudentNotFoundException("(ID：1)");
+    });
+
+    // 検証
+    assertThrows(StudentNotFoundException.class, () -> sut.join(future));
+  }
+
+  @Test
+  void 検索の並行実行_無効な場合は呼び出したスレッドで検索が行われること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getFanOut().setEnabled(false);
+    sut = new QueryFanOutExecutor(properties);
+
+    CompletableFuture<Thread> future = sut.submit(Thread::currentThread);
+
+    // 検証
+    assertThat(sut.join(future)).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  void 検索の並行実行_トランザクション中は呼び出したスレッドで検索が行われること() {
+    // 準備
+    sut = new QueryFanOutExecutor(new StudentManagementProperties());
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    CompletableFuture<Thread> future;
+    try {
+      future = sut.submit(Thread::currentThread);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    // 検証
+    assertThat(sut.join(future)).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  void 検索の並行実行_コミット後でもコネクションが紐づいている場合は呼び出したスレッドで検索が行われること() {
+    // 準備
+    DataSource dataSource = mock(DataSource.class);
+    @SuppressWarnings("unchecked")
+    ObjectProvider<DataSource> dataSourceProvider = mock(ObjectProvider.class);
+    when(dataSourceProvider.getIfAvailable()).thenReturn(dataSource);
+    sut = new QueryFanOutExecutor(new StudentManagementProperties(), dataSourceProvider);
+
+    CompletableFuture<Thread> unbound = sut.submit(Thread::currentThread);
+    TransactionSynchronizationManager.bindResource(dataSource,
+        new ConnectionHolder(mock(Connection.class)));
+    CompletableFuture<Thread> bound;
+    try {
+      bound = sut.submit(Thread::currentThread);
+    } finally {
+      TransactionSynchronizationManager.unbindResource(dataSource);
+    }
+
+    // 検証
+    assertThat(sut.join(unbound).isVirtual()).isTrue();
+    assertThat(sut.join(bound)).isSameAs(Thread.currentThread());
+  }
+
+  private boolean awaitOthers(CountDownLatch started) {
+    started.countDown();
+    try {
+      return started.await(5, TimeUnit.SECONDS) && Thread.currentThread().isVirtual();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package raisetech.studentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.dto.StudentArchiveResult;
+
+@ExtendWith(MockitoExtension.class)
+class StudentArchiveServiceTest {
+
+  @Mock
+  private StudentService service;
+
+  private StudentManagementProperties properties;
+
+  private StudentArchiveService sut;
+
+  @BeforeEach
+  void before() {
+    properties = new StudentManagementProperties();
+    properties.getArchive().setBatchSize(2);
+    properties.getArchive().setMaxBatches(3);
+    sut = new StudentArchiveService(service, properties);
+  }
+
+  @Test
+  void 受講生のアーカイブ_論理削除済みの受講生がなくなるまで一定件数ごとに移動され合計が返却されること() {
+    // 準備
+    when(service.archiveDeletedStudents(2)).thenReturn(new StudentArchiveResult(2, 3, 3),
+        new StudentArchiveResult(1, 1, 1));
+
+    StudentArchiveResult actual = sut.archiveDeletedStudents();
+
+    // 検証
+    verify(service, times(2)).archiveDeletedStudents(2);
+    assertThat(actual).isEqualTo(new StudentArchiveResult(3, 4, 4));
+  }
+
+  @Test
+  void 受講生のアーカイブ_トランザクションの最大数に達した場合は残りを移動せずに終了すること() {
+    // 準備
+    when(service.archiveDeletedStudents(2)).thenReturn(new StudentArchiveResult(2, 2, 2));
+
+    StudentArchiveResult actual = sut.archiveDeletedStudents();
+
+    // 検証
+    verify(service, times(3)).archiveDeletedStudents(2);
+    assertThat(actual).isEqualTo(new StudentArchiveResult(6, 6, 6));
+  }
+
+  @Test
+  void 受講生の定期的なアーカイブ_無効な場合は移動されないこと() {
+    // 準備
+    properties.getArchive().setEnabled(false);
+
+    sut.archiveOnSchedule();
+
+    // 検証
+    verify(service, never()).archiveDeletedStudents(anyInt());
+  }
+}
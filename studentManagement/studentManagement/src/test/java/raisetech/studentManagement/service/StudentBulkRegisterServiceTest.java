@@ -0,0 +1,134 @@
+package raisetech.studentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.data.Student;
+import raisetech.studentManagement.data.StudentCourse;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentBulkRegisterResult;
+
+@ExtendWith(MockitoExtension.class)
+class StudentBulkRegisterServiceTest {
+
+  @Mock
+  private StudentService service;
+
+  private StudentBulkRegisterService sut;
+
+  @BeforeEach
+  void before() {
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getBulk().setChunkSize(2);
+    sut = new StudentBulkRegisterService(service,
+        Validation.buildDefaultValidatorFactory().getValidator(), properties);
+  }
+
+  @Test
+  void 受講生詳細の一括登録_一定件数ごとにまとめて登録され1件ごとの登録結果が返却されること() {
+    // 準備
+    List<StudentDetail> studentDetailList = List.of(
+        createStudentDetail("江並公史"), createStudentDetail("山田太郎"),
+        createStudentDetail("鈴木一郎"));
+
+    StudentBulkRegisterResult actual = sut.registerStudentList(studentDetailList);
+
+    // 検証
+    verify(service, times(1)).registerStudentList(studentDetailList.subList(0, 2));
+    verify(service, times(1)).registerStudentList(studentDetailList.subList(2, 3));
+    verify(service, never()).registerStudent(any());
+    assertThat(actual.getSuccessCount()).isEqualTo(3);
+    assertThat(actual.getFailureCount()).isEqualTo(0);
+    assertThat(actual.getResultList()).extracting("index").containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void 受講生詳細の一括登録_入力チェックに掛かった受講生詳細は登録されず失敗として返却されること() {
+    // 準備
+    StudentDetail invalid = createStudentDetail("");
+    List<StudentDetail> studentDetailList = List.of(createStudentDetail("江並公史"), invalid);
+
+    StudentBulkRegisterResult actual = sut.registerStudentList(studentDetailList);
+
+    // 検証
+    verify(service, times(1)).registerStudentList(List.of(studentDetailList.get(0)));
+    assertThat(actual.getSuccessCount()).isEqualTo(1);
+    assertThat(actual.getFailureCount()).isEqualTo(1);
+    assertThat(actual.getResultList().get(1).isSuccess()).isFalse();
+    assertThat(actual.getResultList().get(1).getErrorList())
+        .containsExactly("student.name：名前を入力してください。");
+  }
+
+  @Test
+  void 受講生詳細の一括登録_まとめての登録に失敗した場合は1件ずつ登録し直し失敗した受講生詳細のみ失敗として返却されること() {
+    // 準備
+    StudentDetail failure = createStudentDetail("山田太郎");
+    List<StudentDetail> studentDetailList = List.of(createStudentDetail("江並公史"), failure);
+    doThrow(new DataIntegrityViolationException("一括登録エラー"))
+        .when(service).registerStudentList(any());
+    lenient().doThrow(new DataIntegrityViolationException(
+            "Duplicate entry 'taro@example.com' for key 'students.email'"))
+        .when(service).registerStudent(failure);
+
+    StudentBulkRegisterResult actual = sut.registerStudentList(studentDetailList);
+
+    // 検証
+    verify(service, times(2)).registerStudent(any());
+    assertThat(actual.getSuccessCount()).isEqualTo(1);
+    assertThat(actual.getFailureCount()).isEqualTo(1);
+    assertThat(actual.getResultList().get(0).isSuccess()).isTrue();
+    assertThat(actual.getResultList().get(1).getErrorList())
+        .containsExactly("登録できませんでした（重複または制約違反）");
+  }
+
+  @Test
+  void 受講生詳細の一括登録_制約違反以外で登録に失敗した場合はエラー内容を含まないメッセージが返却されること() {
+    // 準備
+    StudentDetail failure = createStudentDetail("山田太郎");
+    doThrow(new IllegalStateException("一括登録エラー"))
+        .when(service).registerStudentList(any());
+    doThrow(new IllegalStateException("Connection is not available, request timed out"))
+        .when(service).registerStudent(failure);
+
+    StudentBulkRegisterResult actual = sut.registerStudentList(List.of(failure));
+
+    // 検証
+    assertThat(actual.getFailureCount()).isEqualTo(1);
+    assertThat(actual.getResultList().get(0).getErrorList())
+        .containsExactly("登録できませんでした");
+  }
+
+  @Test
+  void 受講生詳細の入力チェック_受講生が未指定の場合に入力チェックに掛かること() {
+    assertThat(sut.validate(new StudentDetail())).containsExactly("受講生を入力してください。");
+  }
+
+  private StudentDetail createStudentDetail(String name) {
+    Student student = new Student();
+    student.setName(name);
+    student.setKanaName("エナミコウジ");
+    student.setNickname("エナミ");
+    student.setEmail("test@example.com");
+    student.setAddress("奈良県");
+    student.setGender("男性");
+
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setCourseName("Javaコース");
+    return new StudentDetail(student, new ArrayList<>(List.of(studentCourse)), null);
+  }
+}
@@ -0,0 +1,107 @@
+package raisetech.studentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.StudentImportResult;
+
+@ExtendWith(MockitoExtension.class)
+class StudentImportServiceTest {
+
+  private static final String HEADER =
+      "name,kanaName,nickname,email,address,age,gender,remark,courseNames\n";
+
+  @Mock
+  private StudentService service;
+
+  private StudentImportService sut;
+
+  @BeforeEach
+  void before() {
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getImporter().setChunkSize(2);
+    properties.getImporter().setBufferedChunks(1);
+    StudentBulkRegisterService bulkRegisterService = new StudentBulkRegisterService(service,
+        Validation.buildDefaultValidatorFactory().getValidator(), properties);
+    sut = new StudentImportService(bulkRegisterService, new SimpleAsyncTaskExecutor(),
+        properties);
+  }
+
+  @Test
+  void 受講生詳細の取り込み_一定件数ごとにまとめて登録され件数が返却されること() throws Exception {
+    // 準備
+    String csv = HEADER
+        + "江並公史,エナミコウジ,エナミ,enami@example.com,奈良県,36,男性,,Javaコース;AWSコース\n"
+        + "山田太郎,ヤマダタロウ,タロウ,yamada@example.com,大阪府,25,男性,備考,\n"
+        + "鈴木一郎,スズキイチロウ,イチロー,suzuki@example.com,東京都,30,男性,,デザインコース\n";
+
+    StudentImportResult actual = sut.importStudents(toInputStream(csv), ',');
+
+    // 検証
+    ArgumentCaptor<List<StudentDetail>> captor = ArgumentCaptor.captor();
+    verify(service, times(2)).registerStudentList(captor.capture());
+    assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+
+    StudentDetail first = captor.getAllValues().get(0).get(0);
+    assertThat(first.getStudent().getName()).isEqualTo("江並公史");
+    assertThat(first.getStudent().getAge()).isEqualTo(36);
+    assertThat(first.getStudentCourseList()).extracting("courseName")
+        .containsExactly("Javaコース", "AWSコース");
+    assertThat(captor.getAllValues().get(0).get(1).getStudentCourseList()).isEmpty();
+
+    assertThat(actual.getRowCount()).isEqualTo(3);
+    assertThat(actual.getSuccessCount()).isEqualTo(3);
+    assertThat(actual.getFailureCount()).isEqualTo(0);
+  }
+
+  @Test
+  void 受講生詳細の取り込み_入力チェックに掛かった行は登録されず失敗として数えられること() throws Exception {
+    // 準備
+    String tsv = HEADER.replace(',', '\t')
+        + "江並公史\tエナミコウジ\tエナミ\tenami@example.com\t奈良県\t36\t男性\t\tJavaコース\n"
+        + "\tヤマダタロウ\tタロウ\tyamada@example.com\t大阪府\t25\t男性\t\t\n"
+        + "鈴木一郎\tスズキイチロウ\tイチロー\tsuzuki@example.com\t東京都\t三十\t男性\t\t\n";
+
+    StudentImportResult actual = sut.importStudents(toInputStream(tsv), '\t');
+
+    // 検証
+    ArgumentCaptor<List<StudentDetail>> captor = ArgumentCaptor.captor();
+    verify(service, times(1)).registerStudentList(captor.capture());
+    assertThat(captor.getValue()).extracting(detail -> detail.getStudent().getName())
+        .containsExactly("江並公史");
+    assertThat(actual.getRowCount()).isEqualTo(3);
+    assertThat(actual.getSuccessCount()).isEqualTo(1);
+    assertThat(actual.getFailureCount()).isEqualTo(2);
+  }
+
+  @Test
+  void 受講生詳細の取り込み_ヘッダー行のみの場合は何も登録されないこと() throws Exception {
+    // 準備
+    StudentImportResult actual = sut.importStudents(toInputStream(HEADER), ',');
+
+    // 検証
+    verify(service, never()).registerStudentList(any());
+    assertThat(actual.getRowCount()).isEqualTo(0);
+  }
+
+  private InputStream toInputStream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -2,6 +2,12 @@ package raisetech.studentManagement.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,18 +16,41 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import raisetech.studentManagement.cache.StudentChangeTracker;
+import raisetech.studentManagement.cache.StudentDetailCache;
+import raisetech.studentManagement.cache.StudentFacetsCache;
+import raisetech.studentManagement.cache.StudentListSnapshot;
+import raisetech.studentManagement.config.StudentManagementProperties;
+import raisetech.studentManagement.config.StudentManagementProperties.QueryMode;
 import raisetech.studentManagement.converter.StudentConverter;
+import raisetech.studentManagement.data.ApplicationStatus;
 import raisetech.studentManagement.data.CourseStatus;
 import raisetech.studentManagement.data.Student;
 import raisetech.studentManagement.data.StudentCourse;
 import raisetech.studentManagement.domain.StudentDetail;
+import raisetech.studentManagement.dto.FacetCount;
+import raisetech.studentManagement.dto.StudentArchiveResult;
+import raisetech.studentManagement.dto.StudentFacets;
+import raisetech.studentManagement.dto.StudentPage;
 import raisetech.studentManagement.dto.StudentSearchCondition;
+import raisetech.studentManagement.dto.StudentUpdateResult;
+import raisetech.studentManagement.event.StudentChangedEvent;
+import raisetech.studentManagement.exception.InvalidCursorException;
+import raisetech.studentManagement.exception.InvalidStatusTransitionException;
+import raisetech.studentManagement.exception.InvalidStudentCourseException;
 import raisetech.studentManagement.exception.StudentNotFoundException;
+import raisetech.studentManagement.exception.StudentVersionConflictException;
+import raisetech.studentManagement.index.StudentBitmapIndex;
+import raisetech.studentManagement.index.StudentSearchIndex;
 import raisetech.studentManagement.repository.StudentRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,11 +62,22 @@ class StudentServiceTest {
   @Mock
   private StudentConverter converter;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private StudentService sut;
 
   @BeforeEach
   void before() {
-    sut = new StudentService(repository, converter);
+    sut = createService(new StudentManagementProperties());
+  }
+
+  private StudentService createService(StudentManagementProperties properties) {
+    return new StudentService(repository, converter, properties,
+        new StudentDetailCache(new StudentConverter(), properties), new StudentListSnapshot(),
+        new StudentSearchIndex(), new StudentBitmapIndex(),
+        new StudentFacetsCache(properties), new QueryFanOutExecutor(properties),
+        new StudentChangeTracker(), eventPublisher);
   }
 
   @Test
@@ -60,6 +100,91 @@ class StudentServiceTest {
         courseStatusList);
   }
 
+  @Test
+  void 受講生詳細のページ検索_ページの受講生に紐づく情報のみ取得され次ページのカーソルが返却されること() {
+    // 準備
+    List<Student> studentList = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      Student student = new Student();
+      student.setId(String.valueOf(i));
+      studentList.add(student);
+    }
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setId("10");
+    studentCourse.setStudentId("1");
+    List<StudentCourse> studentCourseList = List.of(studentCourse);
+    List<CourseStatus> courseStatusList = List.of(new CourseStatus());
+    List<StudentDetail> studentDetailList = List.of(new StudentDetail(), new StudentDetail());
+
+    when(repository.searchPage(null, 3)).thenReturn(studentList);
+    when(repository.searchStudentCourseByStudentIds(List.of("1", "2")))
+        .thenReturn(studentCourseList);
+    when(repository.searchCourseStatusByStudentIds(List.of("1", "2")))
+        .thenReturn(courseStatusList);
+    when(converter.convertStudentDetails(studentList.subList(0, 2), studentCourseList,
+        courseStatusList)).thenReturn(studentDetailList);
+
+    StudentPage actual = sut.searchStudentList(2, null);
+
+    // 検証
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("1", "2"));
+    verify(repository, times(1)).searchCourseStatusByStudentIds(List.of("1", "2"));
+    assertThat(actual.getStudentDetailList()).isEqualTo(studentDetailList);
+    assertThat(sut.decodeCursor(actual.getNextCursor())).isEqualTo(2L);
+  }
+
+  @Test
+  void 受講生詳細のページ検索_最終ページの場合は次ページのカーソルが返却されないこと() {
+    // 準備
+    Student student = new Student();
+    student.setId("5");
+    when(repository.searchPage(4L, 3)).thenReturn(List.of(student));
+
+    StudentPage actual = sut.searchStudentList(2, sut.encodeCursor("4"));
+
+    // 検証
+    assertThat(actual.getNextCursor()).isNull();
+  }
+
+  @Test
+  void 受講生詳細のページ検索_不正なカーソルの場合に例外がスローされること() {
+    assertThrows(InvalidCursorException.class, () -> sut.searchStudentList(2, "不正なカーソル"));
+  }
+
+  @Test
+  void 受講生詳細の全件出力_一定件数ごとに受講生詳細が組み立てられ順に出力されること() throws Exception {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getExport().setChunkSize(2);
+    sut = createService(properties);
+
+    List<Student> studentList = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      Student student = new Student();
+      student.setId(String.valueOf(i));
+      studentList.add(student);
+    }
+    @SuppressWarnings("unchecked")
+    Cursor<Student> cursor = mock(Cursor.class);
+    when(cursor.iterator()).thenReturn(studentList.iterator());
+    when(repository.searchCursor()).thenReturn(cursor);
+    when(repository.searchStudentCourseByStudentIds(anyCollection())).thenReturn(List.of());
+    StudentDetail first = new StudentDetail();
+    StudentDetail second = new StudentDetail();
+    when(converter.convertStudentDetails(List.of(studentList.get(0), studentList.get(1)),
+        List.of(), List.of())).thenReturn(List.of(first));
+    when(converter.convertStudentDetails(List.of(studentList.get(2)), List.of(), List.of()))
+        .thenReturn(List.of(second));
+
+    List<StudentDetail> actual = new ArrayList<>();
+    sut.exportStudentList(actual::add);
+
+    // 検証
+    verify(repository, times(2)).searchStudentCourseByStudentIds(anyCollection());
+    verify(cursor, times(1)).close();
+    assertEquals(List.of(first, second), actual);
+  }
+
   @Test
   void 受講生詳細の検索_リポジトリの処理が呼び出せれ受講生詳細が返却されていること() {
     // 準備
@@ -94,6 +219,157 @@ class StudentServiceTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  void 受講生詳細の検索_2回目以降はキャッシュから取得されリポジトリが呼び出されないこと() {
+    // 準備
+    Student student = new Student();
+    student.setId("1");
+    when(repository.searchStudent("1")).thenReturn(student);
+    when(repository.searchStudentCourse("1")).thenReturn(new ArrayList<>());
+
+    StudentDetail first = sut.searchStudent("1");
+    first.getStudent().setName("変更後");
+    StudentDetail second = sut.searchStudent("1");
+
+    // 検証
+    verify(repository, times(1)).searchStudent("1");
+    assertThat(second.getStudent().getName()).isNull();
+    assertThat(sut.getStudentCacheStats().getHitCount()).isEqualTo(1);
+    assertThat(sut.getStudentCacheStats().getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生詳細の検索_取得方式がJOINEDの場合は結合したクエリのみで受講生詳細が返却されること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getQuery().setSearchStudentMode(QueryMode.JOINED);
+    sut = createService(properties);
+    StudentDetail expected = new StudentDetail(new Student(), List.of(), List.of());
+    when(repository.searchStudentDetail("1")).thenReturn(expected);
+
+    StudentDetail actual = sut.searchStudent("1");
+
+    // 検証
+    assertThat(actual).isEqualTo(expected);
+    verify(repository, never()).searchStudent(any());
+    verify(repository, never()).searchStudentCourse(any());
+    verify(repository, never()).searchCourseStatus(any());
+  }
+
+  @Test
+  void 受講生詳細の一覧検索_2回目以降はスナップショットから返却されリポジトリが呼び出されないこと() {
+    // 準備
+    sut.searchStudentList();
+    sut.searchStudentList();
+
+    // 検証
+    verify(repository, times(1)).search();
+    verify(repository, times(1)).searchStudentCourseList();
+    verify(repository, times(1)).searchCourseStatusList();
+  }
+
+  @Test
+  void 受講生詳細の一覧検索_スナップショットが無効な場合は毎回リポジトリが呼び出されること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getSnapshot().setEnabled(false);
+    sut = createService(properties);
+
+    sut.searchStudentList();
+    sut.searchStudentList();
+
+    // 検証
+    verify(repository, times(2)).search();
+  }
+
+  @Test
+  void 受講生詳細の変更通知_変更された受講生のみ読み込み直されスナップショットに反映されること() {
+    // 準備
+    StudentDetail before = createStudentDetail("1", "変更前");
+    StudentDetail other = createStudentDetail("2", "江並公史");
+    when(converter.convertStudentDetails(any(), any(), any()))
+        .thenReturn(new ArrayList<>(List.of(before, other)));
+    sut.searchStudentList();
+
+    Student changed = new Student();
+    changed.setId("1");
+    StudentDetail after = createStudentDetail("1", "変更後");
+    when(repository.searchStudentByIds(List.of("1"))).thenReturn(List.of(changed));
+    when(converter.convertStudentDetails(any(), any(), any())).thenReturn(List.of(after));
+
+    sut.onStudentChanged(new StudentChangedEvent(List.of("1")));
+    List<StudentDetail> actual = sut.searchStudentList();
+
+    // 検証
+    verify(repository, times(1)).search();
+    verify(repository, times(1)).searchStudentByIds(List.of("1"));
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("1"));
+    assertEquals(List.of(after, other), actual);
+  }
+
+  @Test
+  void 受講生詳細の変更通知_一覧のETagはスナップショットに反映した後に変わること() {
+    // 準備
+    when(converter.convertStudentDetails(any(), any(), any()))
+        .thenReturn(new ArrayList<>(List.of(createStudentDetail("1", "変更前"))));
+    sut.searchStudentList();
+    String original = sut.getStudentListETag();
+
+    Student changed = new Student();
+    changed.setId("1");
+    when(repository.searchStudentByIds(List.of("1"))).thenReturn(List.of(changed));
+    AtomicReference<String> etagWhilePatching = new AtomicReference<>();
+    when(converter.convertStudentDetails(any(), any(), any())).thenAnswer(invocation -> {
+      etagWhilePatching.set(sut.getStudentListETag());
+      return List.of(createStudentDetail("1", "変更後"));
+    });
+
+    sut.onStudentChanged(new StudentChangedEvent(List.of("1")));
+
+    // 検証
+    assertEquals(original, etagWhilePatching.get());
+    assertNotEquals(original, sut.getStudentListETag());
+  }
+
+  private StudentDetail createStudentDetail(String id, String name) {
+    Student student = new Student();
+    student.setId(id);
+    student.setName(name);
+    return new StudentDetail(student, new ArrayList<>(), new ArrayList<>());
+  }
+
+  @Test
+  void 受講生詳細の一覧検索_取得方式がJOINEDの場合は結合したクエリのみで受講生詳細一覧が返却されること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getQuery().setSearchStudentListMode(QueryMode.JOINED);
+    sut = createService(properties);
+    List<StudentDetail> expected = List.of(new StudentDetail());
+    when(repository.searchStudentDetailList()).thenReturn(expected);
+
+    List<StudentDetail> actual = sut.searchStudentList();
+
+    // 検証
+    assertEquals(expected, actual);
+    verify(repository, never()).search();
+    verify(repository, never()).searchStudentCourseList();
+    verify(repository, never()).searchCourseStatusList();
+  }
+
+  @Test
+  void 受講生詳細の条件指定検索_取得方式がJOINEDで条件に合致する受講生がいない場合に例外がスローされること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getQuery().setSearchByConditionMode(QueryMode.JOINED);
+    sut = createService(properties);
+    StudentSearchCondition condition = new StudentSearchCondition();
+    when(repository.searchStudentDetailByCondition(condition)).thenReturn(List.of());
+
+    // 検証
+    assertThrows(StudentNotFoundException.class, () -> sut.searchByCondition(condition));
+    verify(repository, never()).searchByCondition(any());
+  }
+
   @Test
   void 受講生詳細の検索_受講生が存在しない場合に例外がスローされること() {
     // 準備
@@ -112,23 +388,189 @@ class StudentServiceTest {
   void 受講生詳細の条件指定検索_リポジトリとコンバーターの処理が適切に呼び出せていること() {
     // 準備
     StudentSearchCondition condition = new StudentSearchCondition();
-    List<Student> students = List.of(new Student());
-    List<StudentCourse> studentCourses = new ArrayList<>();
-    List<CourseStatus> courseStatuses = new ArrayList<>();
+    Student student = new Student();
+    student.setId("1");
+    List<Student> students = List.of(student);
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setId("10");
+    studentCourse.setStudentId("1");
+    List<StudentCourse> studentCourses = List.of(studentCourse);
+    List<CourseStatus> courseStatuses = List.of(new CourseStatus());
 
     when(repository.searchByCondition(condition)).thenReturn(students);
-    when(repository.searchStudentCourseList()).thenReturn(studentCourses);
-    when(repository.searchCourseStatusList()).thenReturn(courseStatuses);
+    when(repository.searchStudentCourseByStudentIds(List.of("1"))).thenReturn(studentCourses);
+    when(repository.searchCourseStatusByStudentIds(List.of("1"))).thenReturn(courseStatuses);
 
     sut.searchByCondition(condition);
 
     // 検証
     verify(repository, times(1)).searchByCondition(condition);
-    verify(repository, times(1)).searchStudentCourseList();
-    verify(repository, times(1)).searchCourseStatusList();
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("1"));
+    verify(repository, times(1)).searchCourseStatusByStudentIds(List.of("1"));
+    verify(repository, never()).searchStudentCourseList();
+    verify(repository, never()).searchCourseStatusList();
     verify(converter, times(1)).convertStudentDetails(students, studentCourses, courseStatuses);
   }
 
+  @Test
+  void 受講生詳細の条件指定検索_IN句に渡すIDが上限を超える場合は分割して検索されること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getQuery().setInClauseChunkSize(2);
+    sut = createService(properties);
+
+    StudentSearchCondition condition = new StudentSearchCondition();
+    List<Student> students = new ArrayList<>();
+    for (int i = 1; i <= 5; i++) {
+      Student student = new Student();
+      student.setId(String.valueOf(i));
+      students.add(student);
+    }
+    when(repository.searchByCondition(condition)).thenReturn(students);
+    when(repository.searchStudentCourseByStudentIds(anyCollection())).thenReturn(List.of());
+
+    sut.searchByCondition(condition);
+
+    // 検証
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("1", "2"));
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("3", "4"));
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("5"));
+    verify(repository, times(1)).searchCourseStatusByStudentIds(List.of("5"));
+    verify(repository, never()).searchCourseStatus(any());
+  }
+
+  @Test
+  void 受講生詳細の条件指定検索_部分一致の条件が指定された場合は索引で検索されリポジトリの条件検索が呼び出されないこと() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setName("田");
+    when(repository.searchAllIncludingDeleted()).thenReturn(List.of(
+        createStudent("1", "山田太郎"), createStudent("2", "鈴木一郎"), createStudent("3", "田中花子")));
+
+    sut.searchByCondition(condition);
+    StudentPage page = sut.searchByCondition(condition, 1, null);
+
+    // 検証
+    verify(repository, times(1)).searchAllIncludingDeleted();
+    verify(repository, never()).searchByCondition(any());
+    verify(repository, never()).searchByConditionPage(any(), any(), anyInt());
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("1", "3"));
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("1"));
+    assertThat(page.getNextCursor()).isEqualTo(sut.encodeCursor("1"));
+  }
+
+  @Test
+  void 受講生詳細の条件指定検索_居住地域などの条件のみの場合はビットマップ索引で絞り込んだ受講生のみ取得されること() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setAddress("東京");
+    Student first = createStudent("1", "山田太郎");
+    first.setAddress("東京");
+    Student second = createStudent("2", "鈴木一郎");
+    second.setAddress("大阪");
+    Student third = createStudent("3", "田中花子");
+    third.setAddress("東京");
+    when(repository.searchAllIncludingDeleted()).thenReturn(List.of(first, second, third));
+    when(repository.searchStudentByIdsIncludingDeleted(List.of("1", "3")))
+        .thenReturn(List.of(first, third));
+    when(repository.searchStudentByIdsIncludingDeleted(List.of("3"))).thenReturn(List.of(third));
+
+    sut.searchByCondition(condition);
+    StudentPage page = sut.searchByCondition(condition, 1, sut.encodeCursor("1"));
+
+    // 検証
+    verify(repository, times(1)).searchAllIncludingDeleted();
+    verify(repository, never()).searchByCondition(any());
+    verify(repository, never()).searchByConditionPage(any(), any(), anyInt());
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("1", "3"));
+    verify(repository, times(1)).searchStudentCourseByStudentIds(List.of("3"));
+    assertThat(page.getNextCursor()).isNull();
+  }
+
+  @Test
+  void 受講生詳細の条件指定検索_索引が無効な場合はリポジトリの条件検索が呼び出されること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getSearchIndex().setEnabled(false);
+    sut = createService(properties);
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setName("田");
+    condition.setGender("男性");
+    when(repository.searchByCondition(condition)).thenReturn(List.of(createStudent("1", "山田太郎")));
+
+    sut.searchByCondition(condition);
+
+    // 検証
+    verify(repository, times(1)).searchByCondition(condition);
+    verify(repository, never()).searchAllIncludingDeleted();
+  }
+
+  @Test
+  void 受講生の集計_申込状況のコードが名称に変換され件数の多い順のまま返り2回目はキャッシュから返ること() {
+    // 準備
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setGender("女性");
+    when(repository.countByStatus(condition)).thenReturn(
+        List.of(new FacetCount("2", 3), new FacetCount("1", 1)));
+    when(repository.countByCourseName(condition)).thenReturn(
+        List.of(new FacetCount("Javaコース", 2)));
+    when(repository.countByAddress(condition)).thenReturn(
+        List.of(new FacetCount("東京", 2), new FacetCount("", 1)));
+
+    sut.getFacets(condition);
+    StudentFacets actual = sut.getFacets(condition);
+
+    // 検証
+    assertThat(new ArrayList<>(actual.getStatusCounts().keySet()))
+        .isEqualTo(List.of("本申込", "仮申込"));
+    assertThat(actual.getCourseNameCounts().get("Javaコース")).isEqualTo(2L);
+    assertThat(actual.getAddressCounts().get("")).isEqualTo(1L);
+    verify(repository, times(1)).countByStatus(condition);
+    verify(repository, times(1)).countByCourseName(condition);
+    verify(repository, times(1)).countByAddress(condition);
+  }
+
+  @Test
+  void 受講生の集計_検索条件がnullの場合は条件なしで集計されること() {
+    // 準備
+    when(repository.countByStatus(any())).thenReturn(List.of());
+    when(repository.countByCourseName(any())).thenReturn(List.of());
+    when(repository.countByAddress(any())).thenReturn(List.of());
+
+    sut.getFacets(null);
+
+    // 検証
+    verify(repository, times(1)).countByStatus(new StudentSearchCondition());
+  }
+
+  @Test
+  void 正規化したカナ名の設定_未設定の受講生が一定件数ごとに最後まで更新されること() {
+    // 準備
+    StudentManagementProperties properties = new StudentManagementProperties();
+    properties.getBulk().setChunkSize(2);
+    sut = createService(properties);
+    Student first = createStudent("1", "山田太郎");
+    Student second = createStudent("2", "鈴木一郎");
+    Student third = createStudent("5", "田中花子");
+    when(repository.searchKanaNameNormalizedMissing(null, 2)).thenReturn(List.of(first, second));
+    when(repository.searchKanaNameNormalizedMissing(2L, 2)).thenReturn(List.of(third));
+
+    sut.backfillKanaNameNormalized();
+
+    // 検証
+    verify(repository, times(1)).updateKanaNameNormalized(first);
+    verify(repository, times(1)).updateKanaNameNormalized(second);
+    verify(repository, times(1)).updateKanaNameNormalized(third);
+    verify(repository, never()).searchKanaNameNormalizedMissing(5L, 2);
+  }
+
+  private Student createStudent(String id, String name) {
+    Student student = new Student();
+    student.setId(id);
+    student.setName(name);
+    return student;
+  }
+
   @Test
   void 受講生詳細の条件指定検索_条件に合致する受講生がいない場合に例外がスローされること() {
     // 準備
@@ -141,6 +583,9 @@ class StudentServiceTest {
 
     // 検証
     assertThat(thrown.getMessage()).contains("(検索条件：" + condition + ")");
+    verify(repository, never()).searchStudentCourseByStudentIds(any());
+    verify(repository, never()).searchStudentCourseList();
+    verify(repository, never()).searchCourseStatusList();
   }
 
   @Test
@@ -163,10 +608,58 @@ class StudentServiceTest {
     // 検証
     assertEquals(studentDetail, result);
     verify(repository, times(1)).registerStudent(studentDetail.getStudent());
-    verify(repository, times(1)).registerStudentCourse(
-        studentDetail.getStudentCourseList().getFirst());
-    verify(repository, times(1)).registerCourseStatus(
-        studentDetail.getCourseStatusList().getFirst());
+    verify(repository, times(1)).registerStudentCourseList(
+        studentDetail.getStudentCourseList());
+    verify(repository, times(1)).registerCourseStatusList(
+        studentDetail.getCourseStatusList());
+    verify(repository, never()).registerStudentCourse(any());
+    verify(repository, never()).registerCourseStatus(any());
+  }
+
+  @Test
+  void 複数の受講生詳細の登録_受講生と受講生コース情報と申込状況がそれぞれまとめて登録されること() {
+    // 準備
+    List<StudentDetail> studentDetailList = new ArrayList<>();
+    for (int i = 1; i <= 2; i++) {
+      Student student = new Student();
+      student.setId(String.valueOf(i));
+      StudentCourse course = new StudentCourse();
+      course.setId(String.valueOf(i * 10));
+      studentDetailList.add(new StudentDetail(student, new ArrayList<>(List.of(course)), null));
+    }
+
+    sut.registerStudentList(studentDetailList);
+
+    // 検証
+    verify(repository, times(1)).registerStudentList(List.of(
+        studentDetailList.get(0).getStudent(), studentDetailList.get(1).getStudent()));
+    verify(repository, times(1)).registerStudentCourseList(List.of(
+        studentDetailList.get(0).getStudentCourseList().getFirst(),
+        studentDetailList.get(1).getStudentCourseList().getFirst()));
+    verify(repository, times(1)).registerCourseStatusList(any());
+    verify(repository, never()).registerStudent(any());
+    assertEquals("2", studentDetailList.get(1).getStudentCourseList().getFirst().getStudentId());
+    assertEquals("20",
+        studentDetailList.get(1).getCourseStatusList().getFirst().getStudentCourseId());
+  }
+
+  @Test
+  void 受講生詳細の登録_受講生コース情報が空の場合は受講生のみ登録されること() {
+    // 準備
+    Student student = new Student();
+    student.setId("1");
+
+    StudentDetail studentDetail = new StudentDetail();
+    studentDetail.setStudent(student);
+    studentDetail.setStudentCourseList(new ArrayList<>());
+
+    StudentDetail result = sut.registerStudent(studentDetail);
+
+    // 検証
+    assertThat(result.getCourseStatusList().isEmpty()).isTrue();
+    verify(repository, times(1)).registerStudent(student);
+    verify(repository, never()).registerStudentCourseList(any());
+    verify(repository, never()).registerCourseStatusList(any());
   }
 
   @Test
@@ -200,32 +693,213 @@ class StudentServiceTest {
 
     // 検証
     assertThat(courseStatus.getStudentCourseId()).isEqualTo(id);
-    assertThat(courseStatus.getStatus()).isEqualTo("仮申込");
+    assertThat(courseStatus.getStatus()).isEqualTo(ApplicationStatus.TEMPORARY);
   }
 
   @Test
-  void 受講生詳細の更新_リポジトリ処理が適切に呼び出せていること() {
+  void 受講生詳細の更新_値が変わった列と行のみが更新され更新した行数が返ること() {
     // 準備
-    Student student = new Student();
-    student.setId("1");
-    student.setName("山田太郎");
+    mockStoredStudent();
+    StudentDetail studentDetail = createUpdateStudentDetail();
+    studentDetail.getStudent().setAge(26);
+    studentDetail.getStudent().setRemark("再受講");
+    studentDetail.getCourseStatusList().get(1).setStatus(ApplicationStatus.CONFIRMED);
+    when(repository.updateStudentColumns(any(), any())).thenReturn(1);
+    when(repository.updateCourseStatusList(any())).thenReturn(1);
 
-    StudentCourse studentCourse = new StudentCourse();
-    studentCourse.setCourseName("Javaコース");
+    StudentUpdateResult actual = sut.updateStudent(studentDetail);
 
-    CourseStatus courseStatus = new CourseStatus();
-    List<CourseStatus> courseStatusList = List.of(courseStatus);
+    // 検証
+    verify(repository, times(1)).updateStudentColumns(studentDetail.getStudent(),
+        Set.of("age", "remark"));
+    verify(repository, never()).updateStudentCourseNames(any());
+    verify(repository, times(1)).updateCourseStatusList(
+        List.of(studentDetail.getCourseStatusList().get(1)));
+    verify(repository, never()).updateStudent(any());
+    assertThat(actual).isEqualTo(new StudentUpdateResult(1, 0, 1));
+    verify(eventPublisher, times(1)).publishEvent(new StudentChangedEvent(List.of("1")));
+  }
 
-    StudentDetail studentDetail = new StudentDetail();
-    studentDetail.setStudent(student);
-    studentDetail.setStudentCourseList(new ArrayList<>(List.of(studentCourse)));
-    studentDetail.setCourseStatusList(courseStatusList);
+  @Test
+  void 受講生詳細の更新_値が変わっていない場合は更新されず通知も行われないこと() {
+    // 準備
+    mockStoredStudent();
+
+    StudentUpdateResult actual = sut.updateStudent(createUpdateStudentDetail());
+
+    // 検証
+    verify(repository, never()).updateStudentColumns(any(), any());
+    verify(repository, never()).updateStudentCourseNames(any());
+    verify(repository, never()).updateCourseStatusList(any());
+    assertThat(actual.getTotalCount()).isEqualTo(0);
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void 受講生詳細の更新_受講生に紐づかない受講生コース情報の変更はデータベースを更新する前に例外が発生すること() {
+    // 準備
+    mockStoredStudent();
+    StudentDetail studentDetail = createUpdateStudentDetail();
+    studentDetail.getStudent().setAge(26);
+    StudentCourse otherCourse = new StudentCourse();
+    otherCourse.setId("99");
+    otherCourse.setCourseName("Javaコース");
+    studentDetail.getStudentCourseList().add(otherCourse);
+
+    // 検証
+    InvalidStudentCourseException thrown = assertThrows(
+        InvalidStudentCourseException.class, () -> sut.updateStudent(studentDetail));
+    assertThat(thrown.getMessage()).contains("99");
+    verify(repository, never()).updateStudentColumns(any(), any());
+    verify(repository, never()).updateStudentCourseNames(any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void 受講生詳細の更新_バージョンが一致せず更新されなかった行がある場合は例外が発生し通知も行われないこと() {
+    // 準備
+    mockStoredStudent();
+    StudentDetail studentDetail = createUpdateStudentDetail();
+    studentDetail.getCourseStatusList()
+        .forEach(courseStatus -> courseStatus.setStatus(ApplicationStatus.CONFIRMED));
+    when(repository.updateCourseStatusList(any())).thenReturn(1);
+
+    // 検証
+    assertThrows(StudentVersionConflictException.class, () -> sut.updateStudent(studentDetail));
+    verify(eventPublisher, never()).publishEvent(any());
+  }
 
-    sut.updateStudent(studentDetail);
+  @Test
+  void 受講生詳細の更新_許可されていない申込状況の変更はデータベースを更新する前に例外が発生すること() {
+    // 準備
+    mockStoredStudent();
+    StudentDetail studentDetail = createUpdateStudentDetail();
+    studentDetail.getStudent().setAge(26);
+    studentDetail.getCourseStatusList().get(0).setStatus(ApplicationStatus.COMPLETED);
 
     // 検証
-    verify(repository, times(1)).updateStudent(student);
-    verify(repository, times(1)).updateStudentCourse(studentCourse);
-    verify(repository, times(1)).updateCourseStatus(courseStatus);
+    InvalidStatusTransitionException thrown = assertThrows(
+        InvalidStatusTransitionException.class, () -> sut.updateStudent(studentDetail));
+    assertThat(thrown.getMessage()).contains("仮申込から受講終了");
+    verify(repository, never()).updateStudentColumns(any(), any());
+    verify(repository, never()).updateCourseStatusList(any());
+  }
+
+  @Test
+  void 受講生詳細の更新_受講生に紐づかない申込状況の変更は例外が発生すること() {
+    // 準備
+    mockStoredStudent();
+    StudentDetail studentDetail = createUpdateStudentDetail();
+    CourseStatus otherStatus = new CourseStatus();
+    otherStatus.setId("99");
+    otherStatus.setStatus(ApplicationStatus.CONFIRMED);
+    studentDetail.getCourseStatusList().add(otherStatus);
+
+    // 検証
+    assertThrows(InvalidStatusTransitionException.class, () -> sut.updateStudent(studentDetail));
+    verify(repository, never()).updateCourseStatusList(any());
+  }
+
+  @Test
+  void 受講生詳細の更新_受講生が存在しない場合は例外が発生すること() {
+    // 準備
+    StudentDetail studentDetail = createUpdateStudentDetail();
+    when(repository.searchStudent("1")).thenReturn(null);
+
+    // 検証
+    assertThrows(StudentNotFoundException.class, () -> sut.updateStudent(studentDetail));
+    verify(repository, never()).updateStudentColumns(any(), any());
+  }
+
+  @Test
+  void 受講生のアーカイブ_複製してから参照される側を最後に削除し移動した受講生が通知されること() {
+    // 準備
+    List<String> studentIds = List.of("2", "5");
+    when(repository.searchDeletedStudentIdsForUpdate(10)).thenReturn(studentIds);
+    when(repository.archiveCourseStatus(studentIds)).thenReturn(3);
+    when(repository.archiveStudentCourses(studentIds)).thenReturn(3);
+    when(repository.archiveStudents(studentIds)).thenReturn(2);
+
+    StudentArchiveResult actual = sut.archiveDeletedStudents(10);
+
+    // 検証
+    InOrder inOrder = inOrder(repository);
+    inOrder.verify(repository).archiveCourseStatus(studentIds);
+    inOrder.verify(repository).archiveStudentCourses(studentIds);
+    inOrder.verify(repository).archiveStudents(studentIds);
+    inOrder.verify(repository).deleteCourseStatusByStudentIds(studentIds);
+    inOrder.verify(repository).deleteStudentCoursesByStudentIds(studentIds);
+    inOrder.verify(repository).deleteStudents(studentIds);
+    assertThat(actual).isEqualTo(new StudentArchiveResult(2, 3, 3));
+    verify(eventPublisher, times(1)).publishEvent(new StudentChangedEvent(studentIds));
+  }
+
+  @Test
+  void 受講生のアーカイブ_論理削除済みの受講生がいない場合は移動も通知も行われないこと() {
+    // 準備
+    when(repository.searchDeletedStudentIdsForUpdate(10)).thenReturn(List.of());
+
+    StudentArchiveResult actual = sut.archiveDeletedStudents(10);
+
+    // 検証
+    verify(repository, never()).archiveStudents(any());
+    verify(repository, never()).deleteStudents(any());
+    assertThat(actual).isEqualTo(new StudentArchiveResult());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void アーカイブした受講生詳細の検索_存在しない場合は例外が発生すること() {
+    // 準備
+    when(repository.searchArchivedStudentDetail("1")).thenReturn(null);
+
+    // 検証
+    assertThrows(StudentNotFoundException.class, () -> sut.searchArchivedStudent("1"));
+  }
+
+  @Test
+  void アーカイブした受講生詳細のページ検索_次ページが存在する場合はカーソルが返却されること() {
+    // 準備
+    List<StudentDetail> studentDetailList = new ArrayList<>();
+    for (String id : List.of("2", "5", "8")) {
+      studentDetailList.add(new StudentDetail(createStudent(id, "山田太郎"), List.of(), List.of()));
+    }
+    when(repository.searchArchivedStudentDetailPage(1L, 3)).thenReturn(studentDetailList);
+
+    StudentPage actual = sut.searchArchivedStudentList(2, sut.encodeCursor("1"));
+
+    // 検証
+    assertThat(actual.getStudentDetailList()).isEqualTo(studentDetailList.subList(0, 2));
+    assertThat(sut.decodeCursor(actual.getNextCursor())).isEqualTo(5L);
+  }
+
+  private void mockStoredStudent() {
+    StudentDetail stored = createUpdateStudentDetail();
+    when(repository.searchStudent("1")).thenReturn(stored.getStudent());
+    when(repository.searchStudentCourse("1")).thenReturn(stored.getStudentCourseList());
+    when(repository.searchCourseStatus(Set.of("1", "2"))).thenReturn(stored.getCourseStatusList());
+  }
+
+  private StudentDetail createUpdateStudentDetail() {
+    Student student = createStudent("1", "山田太郎");
+    student.setKanaName("ヤマダタロウ");
+    student.setAge(25);
+
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    List<CourseStatus> courseStatusList = new ArrayList<>();
+    for (String id : List.of("1", "2")) {
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setId(id);
+      studentCourse.setStudentId("1");
+      studentCourse.setCourseName("コース" + id);
+      studentCourseList.add(studentCourse);
+
+      CourseStatus courseStatus = new CourseStatus();
+      courseStatus.setId(id);
+      courseStatus.setStudentCourseId(id);
+      courseStatus.setStatus(ApplicationStatus.TEMPORARY);
+      courseStatusList.add(courseStatus);
+    }
+    return new StudentDetail(student, studentCourseList, courseStatusList);
   }
 }
\ No newline at end of file